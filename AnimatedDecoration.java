@@ -25,13 +25,7 @@ public class AnimatedDecoration extends Decoration
         this.animDelay=animDelay;
 
         //animation frames
-        frames=new GreenfootImage[frameCount];
-        for (int i=0; i < frameCount; i++)
-        {
-            GreenfootImage img=new GreenfootImage(basePath + (i + 1) + ".png");
-            img.scale(w, h);
-            frames[i]=img;
-        }
+        frames=SpriteCache.getFrames(basePath, frameCount, w, h);
     }
 
     public void act()
@@ -0,0 +1,217 @@
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ * AutoSaver writes saves in the background so GameWorld.act never waits on the disk.
+ *
+ * - submit() runs on the game thread, it only encodes what needs saving
+ *   into bytes, later changes to the game do not touch those bytes
+ * - usually that is a small SaveJournal record (only the dirty rooms/tiles),
+ *   appended to save.jnl
+ * - the first autosave of a session, and every JOURNAL_COMPACT_RECORDS after,
+ *   is a full SaveFormat snapshot that replaces save.dat and empties the journal
+ * - a daemon thread writes the queued jobs in order (fsync, atomic rename)
+ * - cancel() drops jobs not written yet, used before a normal save or
+ *   deleting the save, so an older autosave can never land after them
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class AutoSaver
+{
+    //guards queue and generation
+    private static final Object LOCK=new Object();
+
+    //bytes waiting to be written, in order
+    //full[i]=true for a snapshot, false for a journal record
+    private static ArrayList<ByteBuffer> queue=new ArrayList<ByteBuffer>();
+    private static ArrayList<Boolean> full=new ArrayList<Boolean>();
+
+    //bumped by every cancel, a job taken before it is stale
+    private static long generation=0;
+
+    //journal records since the last full save, game thread only
+    //-1 = save.dat does not match this session yet, next autosave is full
+    private static int journalRecords=-1;
+
+    //a write failed, set by the autosave thread, guarded by LOCK
+    //the files may now miss changes whose dirty flags are already cleared
+    private static boolean writeFailed=false;
+
+    private static Thread worker=null;
+
+    /**
+     * Takes a snapshot now and writes it in the background.
+     * Call on the game thread.
+     */
+    public static void submit(GameData data, GameMap map)
+    {
+        if (data == null) return;
+
+        //only the encode is timed, the write happens on the autosave thread
+        GameEvents.Save event=new GameEvents.Save();
+        event.begin();
+
+        //after a failed write only a full snapshot is sure to have everything
+        synchronized (LOCK)
+        {
+            if (writeFailed)
+            {
+                writeFailed=false;
+                journalRecords=-1;
+            }
+        }
+
+        boolean snapshot=(journalRecords < 0 || journalRecords >= GameConfig.JOURNAL_COMPACT_RECORDS);
+        ByteBuffer bytes;
+        if (snapshot)
+        {
+            bytes=SaveFormat.encode(data, map);
+            journalRecords=0;
+        }
+        else
+        {
+            bytes=SaveJournal.encodeRecord(data, map);
+            journalRecords++;
+        }
+        event.kind=snapshot ? "autosave" : "journal";
+        event.bytes=bytes.limit();
+        event.commit();
+
+        //everything dirty is now in bytes
+        //(if writing them fails, the next autosave is a full one)
+        if (map != null)
+        {
+            map.clearDirty();
+        }
+
+        synchronized (LOCK)
+        {
+            if (snapshot)
+            {
+                //a full snapshot has everything queued before it
+                queue.clear();
+                full.clear();
+            }
+            queue.add(bytes);
+            full.add(snapshot);
+            startWorkerIfNeeded();
+            LOCK.notifyAll();
+        }
+    }
+
+    /**
+     * Drops any save that has not been written yet.
+     */
+    public static void cancel()
+    {
+        synchronized (LOCK)
+        {
+            queue.clear();
+            full.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * save.dat does not match the game anymore (new session, deleted save),
+     * the next autosave must be a full one.
+     */
+    public static void needFullSave()
+    {
+        journalRecords=-1;
+    }
+
+    /**
+     * A full save was just written, autosaves can append to it.
+     */
+    public static void baseWritten()
+    {
+        journalRecords=0;
+    }
+
+    private static void startWorkerIfNeeded()
+    {
+        if (worker != null && worker.isAlive()) return;
+
+        worker=new Thread(new Runnable()
+        {
+            public void run()
+            {
+                writeLoop();
+            }
+        }, "autosave");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private static void writeLoop()
+    {
+        while (true)
+        {
+            ByteBuffer bytes;
+            boolean snapshot;
+            long gen;
+            synchronized (LOCK)
+            {
+                while (queue.isEmpty())
+                {
+                    try
+                    {
+                        LOCK.wait();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                }
+                bytes=queue.remove(0);
+                snapshot=full.remove(0);
+                gen=generation;
+            }
+
+            synchronized (SaveManager.WRITE_LOCK)
+            {
+                //a save/delete happened meanwhile, skip this one
+                synchronized (LOCK)
+                {
+                    if (gen != generation) continue;
+                }
+
+                boolean written;
+                if (snapshot)
+                {
+                    written=SaveManager.writeSave(bytes);
+                }
+                else
+                {
+                    written=SaveManager.appendJournal(bytes);
+                }
+
+                if (!written)
+                {
+                    dropAfterFailure();
+                }
+            }
+        }
+    }
+
+    /**
+     * A write failed on the autosave thread.
+     * Journal records queued behind it would go onto files that miss
+     * changes, so they are dropped up to the next full snapshot,
+     * and the next submit() writes a full one.
+     */
+    private static void dropAfterFailure()
+    {
+        synchronized (LOCK)
+        {
+            while (!queue.isEmpty() && !full.get(0))
+            {
+                queue.remove(0);
+                full.remove(0);
+            }
+            writeFailed=true;
+        }
+    }
+}
@@ -9,10 +9,6 @@ import greenfoot.*;
  */
 public class AxeWarrior extends Player
 {
-    //space"just presse detection
-    private boolean lastSpace=false;
-    private boolean spaceJustPressed=false;
-
     public AxeWarrior()
     {
         //movement
@@ -30,7 +26,6 @@ public class AxeWarrior extends Player
 
         //walk frames
         loadDirectionalFrames("player/axe_warrior/walking", 4);  //more than 4, the axe warrior's horizontal movement looks weird
-        left=mirrorImage(right);
 
         //attack frames
         loadAttackFrames("player/axe_warrior/attack", 5);
@@ -47,20 +42,18 @@ public class AxeWarrior extends Player
 
     public void act()
     {
-        //space just pressed detection
-        //so holding space does not cause multiple attack
-        boolean space=Greenfoot.isKeyDown("space");
-        spaceJustPressed=space && !lastSpace;
-        lastSpace=space;
+        long t=FrameProfiler.begin();
 
         super.act();
+
+        FrameProfiler.end(FrameProfiler.PLAYER, t);
     }
     /**
      * Start attack when SPACE is pressed.
      */
     protected boolean wantsToAttack()
     {
-        return spaceJustPressed;
+        return InputFrame.justPressed(InputFrame.SPACE);
     }
 
     /**
@@ -99,7 +92,7 @@ public class AxeWarrior extends Player
         }
 
         //put a short-lived hitbox 
-        HitBox hitbox=new HitBox(boxW, boxH, 1,getAttackPower());
+        HitBox hitbox=ProjectilePool.acquireHitBox(boxW, boxH, 1,getAttackPower());
         SoundManager.playAxeSound();
         getWorld().addObject(hitbox, getX() + offsetx, getY() + offsety);
     }
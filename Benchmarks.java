@@ -0,0 +1,281 @@
+import greenfoot.*;
+import java.nio.ByteBuffer;
+
+/**
+ * Benchmarks times the game's hot paths that do not need a running
+ * Greenfoot world, so a slowdown shows up as a number.
+ *
+ * Run from the scenario folder with greenfoot.jar on the classpath:
+ *   java -cp .:greenfoot.jar Benchmarks
+ *
+ * Each case is warmed up first, then timed over several rounds.
+ * The result is printed as the best and the average ns per call,
+ * the best round is the one to compare between runs.
+ * Results are kept in a field so the JIT cannot drop the work.
+ *
+ * Code that works on actors is timed on a Box, an Actor that is never
+ * added to a World and just reports its own position, and code that
+ * draws is timed on a bare GreenfootImage.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class Benchmarks
+{
+    private static final int WARMUP_ROUNDS=5;
+    private static final int ROUNDS=10;
+
+    //sink for results
+    private static long sink=0;
+
+    /**
+     * Stand-in for a walking actor: its image is the collision box
+     * and it does not need to be in a World to have a position.
+     */
+    private static class Box extends Actor
+    {
+        int x;
+        int y;
+
+        Box(int w, int h, int x, int y)
+        {
+            setImage(new GreenfootImage(w, h));
+            this.x=x;
+            this.y=y;
+        }
+
+        public int getX()
+        {
+            return x;
+        }
+
+        public int getY()
+        {
+            return y;
+        }
+    }
+
+    /**
+     * One timed case, calls() runs the code being measured n times.
+     */
+    private abstract static class Case
+    {
+        final String name;
+        final int n;
+
+        Case(String name, int n)
+        {
+            this.name=name;
+            this.n=n;
+        }
+
+        abstract void calls(int n);
+    }
+
+    public static void main(String[] args)
+    {
+        final GameMap map=new GameMap();
+        final int r=firstRoomR(map);
+        final int c=firstRoomC(map);
+        final RoomData rd=map.getRoomData(r, c);
+        final String tiles=rd.exportTiles();
+
+        //visit/clear a few rooms so the strings/bitsets are not empty
+        map.setVisited(r, c);
+        map.markCleared(r, c);
+        final String cleared=map.exportCleared();
+
+        final GameData data=new GameData();
+        data.seed=42;
+        final ByteBuffer save=SaveFormat.encode(data, map);
+
+        GameRandom.startSession(42);
+        final FlowField field=new FlowField();
+        field.loadRoom(rd);
+
+        final CollisionGrid grid=new CollisionGrid();
+        grid.loadRoom(rd);
+        final Box box=new Box(40, 50, GameConfig.roomCenterX(), GameConfig.roomCenterY());
+
+        final GreenfootImage minimap=MiniMap.newImage(map.getRows(), map.getCols());
+
+        Case[] cases=new Case[]
+        {
+            new Case("RoomData.exportTiles", 2000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++) sink += rd.exportTiles().length();
+                }
+            },
+            new Case("RoomData.importTiles", 2000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++)
+                    {
+                        rd.importTiles(tiles);
+                        sink += rd.tiles[0][0];
+                    }
+                }
+            },
+            new Case("GameMap.exportVisited", 20000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++) sink += map.exportVisited().length();
+                }
+            },
+            new Case("GameMap.importCleared", 20000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++)
+                    {
+                        map.importCleared(cleared);
+                        while (map.pollChangedRoom() >= 0) sink++;
+                    }
+                }
+            },
+            new Case("SpawnerSystem.randomFloomSpawnInRoom", 100000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++) sink += SpawnerSystem.randomFloomSpawnInRoom(rd)[0];
+                }
+            },
+            new Case("SaveFormat.encode", 5000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++) sink += SaveFormat.encode(data, map).limit();
+                }
+            },
+            new Case("SaveFormat.decode", 5000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++)
+                    {
+                        save.position(0);
+                        sink += SaveFormat.decode(save, map).coins;
+                    }
+                }
+            },
+            new Case("SaveJournal.encodeRecord", 20000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++) sink += SaveJournal.encodeRecord(data, map).limit();
+                }
+            },
+            new Case("FlowField.setTarget", 20000)
+            {
+                void calls(int n)
+                {
+                    //alternate between two far tiles so every call rebuilds
+                    for (int i=0; i < n; i++)
+                    {
+                        int tc=(i % 2 == 0) ? 1 : GameConfig.MAP_COLS - 2;
+                        field.setTarget(GameConfig.tileCenterX(tc), GameConfig.tileCenterY(GameConfig.MAP_ROWS / 2));
+                        sink += field.distanceAt(GameConfig.MAP_ROWS / 2, GameConfig.MAP_COLS / 2);
+                    }
+                }
+            },
+            new Case("CollisionGrid sweep (avoidWallMoving)", 100000)
+            {
+                //walks diagonally, turning when a wall stops it
+                int dx=4;
+                int dy=3;
+
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++)
+                    {
+                        int moveX=grid.sweepX(box, dx, true);
+                        int moveY=grid.sweepY(box, moveX, dy, true);
+                        if (moveX != dx) dx=-dx;
+                        if (moveY != dy) dy=-dy;
+                        box.x += moveX;
+                        box.y += moveY;
+                        sink += moveX + moveY;
+                    }
+                }
+            },
+            new Case("MiniMap.drawCell", 20000)
+            {
+                void calls(int n)
+                {
+                    int cells=map.getRows() * map.getCols();
+                    for (int i=0; i < n; i++)
+                    {
+                        int cell=i % cells;
+                        MiniMap.drawCell(minimap, map, cell / map.getCols(), cell % map.getCols(), r, c);
+                    }
+                    sink += minimap.getWidth();
+                }
+            },
+            new Case("RoomPlan (prefetch work)", 20000)
+            {
+                void calls(int n)
+                {
+                    for (int i=0; i < n; i++) sink += new RoomPlan(map, r, c).pieces.size();
+                }
+            },
+        };
+
+        System.out.println("case                                      best ns/op     avg ns/op");
+        for (Case k : cases)
+        {
+            run(k);
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void run(Case k)
+    {
+        for (int i=0; i < WARMUP_ROUNDS; i++)
+        {
+            k.calls(k.n);
+        }
+
+        long best=Long.MAX_VALUE;
+        long total=0;
+        for (int i=0; i < ROUNDS; i++)
+        {
+            long start=System.nanoTime();
+            k.calls(k.n);
+            long took=System.nanoTime() - start;
+            best=Math.min(best, took);
+            total += took;
+        }
+
+        double bestPerOp=(double) best / k.n;
+        double avgPerOp=(double) total / ROUNDS / k.n;
+        System.out.println(String.format("%-40s %12.1f  %12.1f", k.name, bestPerOp, avgPerOp));
+    }
+
+    private static int firstRoomR(GameMap map)
+    {
+        for (int r=0; r < map.getRows(); r++)
+        {
+            for (int c=0; c < map.getCols(); c++)
+            {
+                if (map.hasRoom(r, c)) return r;
+            }
+        }
+        return 0;
+    }
+
+    private static int firstRoomC(GameMap map)
+    {
+        for (int r=0; r < map.getRows(); r++)
+        {
+            for (int c=0; c < map.getCols(); c++)
+            {
+                if (map.hasRoom(r, c)) return c;
+            }
+        }
+        return 0;
+    }
+}
@@ -22,8 +22,20 @@ public class Bullet extends SuperSmoothMover
 
     //life time of bullet in frames
     private int life = 60;
+
+    //releases the bullet when its life is up, scheduled in addedToWorld
+    private TimerWheel.Timer lifeTimer = new TimerWheel.Timer(new Runnable(){
+        public void run(){
+            if (getWorld() != null){
+                ProjectilePool.release(Bullet.this);
+            }
+        }
+    });
     private int attackPower=0;
 
+    //simple circle bullet image, shared by all bullets
+    private static GreenfootImage bulletImage=null;
+
     /**
      * Constructs a Bullet moving in direction (dirX, dirY).
      *
@@ -37,16 +49,38 @@ public class Bullet extends SuperSmoothMover
      * @param dirY direction in y (-1, 0, 1)
      */
     public Bullet(int dirX, int dirY, int attackPower){
+        reset(dirX, dirY, attackPower);
+    }
+
+    /**
+     * Sets the bullet up for a new shot,
+     * used by the constructor and by ProjectilePool when it reuses one.
+     */
+    public void reset(int dirX, int dirY, int attackPower){
         //calculate velocity
         vx = dirX * speed;
         vy = dirY * speed;
         this.attackPower = attackPower;
+        life = 60;
 
         //Simple circle bullet image
-        GreenfootImage img = new GreenfootImage(10, 10);
-        img.setColor(Color.WHITE);
-        img.fillOval(0, 0, 10, 10);
-        setImage(img);
+        if (bulletImage == null){
+            bulletImage = new GreenfootImage(10, 10);
+            bulletImage.setColor(Color.WHITE);
+            bulletImage.fillOval(0, 0, 10, 10);
+        }
+        setImage(bulletImage);
+    }
+
+    /**
+     * Starts the lifetime on the world's timers.
+     * +1 because the timers run before the actors act,
+     * so the bullet still gets all life frames.
+     */
+    protected void addedToWorld(World world){
+        if (world instanceof GameWorld){
+            ((GameWorld) world).getTimers().schedule(lifeTimer, life + 1);
+        }
     }
 
     /**
@@ -56,6 +90,15 @@ public class Bullet extends SuperSmoothMover
      * - remove bullet if needed
      */
     public void act()
+    {
+        long t=FrameProfiler.begin();
+        fly();
+        FrameProfiler.end(FrameProfiler.PROJECTILES, t);
+    }
+    /**
+     * One frame of flight, act() times it for the profiler.
+     */
+    private void fly()
     {
         //freeze while paused 
         if (GameWorld.isPaused()){
@@ -72,7 +115,7 @@ public class Bullet extends SuperSmoothMover
 
         //1) Remove if hit a wall (Blocker includes walls/statues/etc)
         if (isTouching(Blocker.class)){
-            getWorld().removeObject(this);
+            ProjectilePool.release(this);
             return;
         }
 
@@ -81,7 +124,7 @@ public class Bullet extends SuperSmoothMover
         World ww = getWorld();
         if (ww instanceof GameWorld){
             if (getX() < GameConfig.roomLeft() || getX() > GameConfig.roomRight() || getY() < GameConfig.roomTop() || getY() > GameConfig.roomBottom()){
-                getWorld().removeObject(this);
+                ProjectilePool.release(this);
                 return;
             }
         }
@@ -91,10 +134,12 @@ public class Bullet extends SuperSmoothMover
              return;   
         }
 
-        //lifetime countdown (auto-remove after life frames)
-        life--;
-        if (life <= 0 && getWorld() != null){
-            getWorld().removeObject(this);
+        //no timers outside a GameWorld, count down here
+        if (!(ww instanceof GameWorld)){
+            life--;
+            if (life <= 0){
+                ProjectilePool.release(this);
+            }
         }
     }
     
@@ -106,11 +151,17 @@ public class Bullet extends SuperSmoothMover
      * @return true if the bullet handled a hit and should stop acting this frame
      */
     protected boolean handleHit(){
-        Enemy e = (Enemy) getOneIntersectingObject(Enemy.class);
+        Enemy e;
+        if (getWorld() instanceof GameWorld){
+            e = ((GameWorld) getWorld()).getSpatialHash().getOneIntersecting(this, Enemy.class);
+        }
+        else{
+            e = (Enemy) getOneIntersectingObject(Enemy.class);
+        }
         if (e != null){
             //the takeDamage, will handle remove enemy when health<=0
             e.takeDamage(attackPower);
-            getWorld().removeObject(this);
+            ProjectilePool.release(this);
             return true;
         }
         
@@ -8,9 +8,6 @@ import greenfoot.*;
  */
 public class BulletWarrior extends Player
 {
-    private boolean lastSpace = false;
-    private boolean spaceJustPressed = false;
-
     public BulletWarrior()
     {
         speed = 4;
@@ -25,7 +22,6 @@ public class BulletWarrior extends Player
 
         //walking frames
         loadDirectionalFrames("player/bullet_warrior/walking", 4);
-        left = mirrorImage(right);
 
         //attack frames
         loadAttackFrames("player/bullet_warrior/attack", 3); 
@@ -41,16 +37,16 @@ public class BulletWarrior extends Player
 
     public void act()
     {
-        boolean space = Greenfoot.isKeyDown("space");
-        spaceJustPressed = space && !lastSpace;
-        lastSpace = space;
+        long t=FrameProfiler.begin();
 
         super.act();
+
+        FrameProfiler.end(FrameProfiler.PLAYER, t);
     }
 
     protected boolean wantsToAttack()
     {
-        return spaceJustPressed;
+        return InputFrame.justPressed(InputFrame.SPACE);
     }
 
     protected void onAttackHit()
@@ -70,6 +66,6 @@ public class BulletWarrior extends Player
         SoundManager.playBulletSound();
          //increase attackcount
         GameWorld.attackCount++;
-        getWorld().addObject(new Bullet(dirX, dirY,getAttackPower()), bx, by);
+        getWorld().addObject(ProjectilePool.acquireBullet(dirX, dirY,getAttackPower()), bx, by);
     }
 }
\ No newline at end of file
@@ -92,17 +92,10 @@ public class Coin extends Actor
     }
     private GreenfootImage[] loadFrames()
     {
-        GreenfootImage[] imgs = new GreenfootImage[FRAME_COUNT];
-    
         try
         {
-            for (int i = 0; i < FRAME_COUNT; i++)
-            {
-                GreenfootImage img = new GreenfootImage(FRAME_PREFIX + (i+1) + ".png");
-                img.scale(30, 30);
-                imgs[i] = img;
-            }
-            return imgs;
+            //shared frames, every coin uses the same images
+            return SpriteCache.getFrames(FRAME_PREFIX, FRAME_COUNT, 30, 30);
         }
         catch (IllegalArgumentException e)
         {
@@ -0,0 +1,353 @@
+import greenfoot.*;
+import java.util.ArrayList;
+
+/**
+ * CollisionGrid resolves walking movement against the current room
+ * without asking Greenfoot isTouching(Blocker.class) after every step.
+ *
+ * - solid tiles (walls, statues, lions, fire) are read from RoomData
+ *   once per room load into a solid[tr][tc] map
+ * - blockers that do not come from tiles (DoorBlocker, shop upgrades)
+ *   and the Door hitboxes are kept in two small lists
+ * - a move is swept one axis at a time, X first then Y,
+ *   and stops flush against whatever is in the way,
+ *   so the actor is never moved and then moved back
+ *
+ * GameWorld owns one CollisionGrid and rebuilds it in loadRoom().
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class CollisionGrid
+{
+    //solid[tr][tc]=true when that tile blocks movement
+    private boolean[][] solid=new boolean[GameConfig.MAP_ROWS][GameConfig.MAP_COLS];
+
+    //pixel edges of the tiles
+    //COL_EDGE[tc] is the left of column tc, COL_EDGE[tc+1] is its right
+    //ROW_EDGE[tr] is the top of row tr, ROW_EDGE[tr+1] is its bottom
+    private static final int[] COL_EDGE=buildColEdges();
+    private static final int[] ROW_EDGE=buildRowEdges();
+
+    //blockers that are not built from tiles
+    //e.g. DoorBlocker, AttackUpgrade
+    private ArrayList<Actor> blockers=new ArrayList<Actor>();
+
+    //door hitboxes, only block non-player actors
+    private ArrayList<Door> doors=new ArrayList<Door>();
+
+    /**
+     * Rebuilds the solid tile map for a room
+     * and forgets the blockers/doors of the previous room.
+     *
+     * @param rd: tile layout of the room being loaded
+     */
+    public void loadRoom(RoomData rd)
+    {
+        blockers.clear();
+        doors.clear();
+
+        for (int tr=0; tr < GameConfig.MAP_ROWS; tr++)
+        {
+            for (int tc=0; tc < GameConfig.MAP_COLS; tc++)
+            {
+                solid[tr][tc]=(rd != null && isSolidCode(rd.tiles[tr][tc]));
+            }
+        }
+    }
+
+    /**
+     * Same as loadRoom(RoomData), with the solid tiles already worked out.
+     *
+     * @param plan: plan of the room being loaded
+     */
+    public void loadRoom(RoomPlan plan)
+    {
+        blockers.clear();
+        doors.clear();
+
+        for (int tr=0; tr < GameConfig.MAP_ROWS; tr++)
+        {
+            for (int tc=0; tc < GameConfig.MAP_COLS; tc++)
+            {
+                solid[tr][tc]=plan.solid[tr][tc];
+            }
+        }
+    }
+
+    /**
+     * @param code: tile code from RoomData
+     * @return true if RoomRenderer builds a Blocker for this tile code
+     */
+    public static boolean isSolidCode(int code)
+    {
+        return code == GameConfig.INTERIOR_WALL
+            || code == GameConfig.EXTERIOR_WALL
+            || code == GameConfig.STATUE
+            || code == GameConfig.LION_RIGHT
+            || code == GameConfig.LION_LEFT
+            || code == GameConfig.FIRE;
+    }
+
+    /**
+     * Registers a blocker that is not part of the tile map.
+     */
+    public void addBlocker(Actor b)
+    {
+        if (b != null && !blockers.contains(b))
+        {
+            blockers.add(b);
+        }
+    }
+
+    /**
+     * Forgets a blocker when it is removed from the room.
+     */
+    public void removeBlocker(Actor b)
+    {
+        blockers.remove(b);
+    }
+
+    /**
+     * Registers a Door hitbox, used to keep enemies in the room.
+     */
+    public void addDoor(Door d)
+    {
+        if (d != null && !doors.contains(d))
+        {
+            doors.add(d);
+        }
+    }
+
+    /**
+     * How far actor a can move along X.
+     *
+     * @param a:            the moving actor, its image is the collision box
+     * @param dx:           wanted change in x
+     * @param blockDoors:   true if Door hitboxes also block this actor
+     * @return the allowed change in x, between 0 and dx
+     */
+    public int sweepX(Actor a, int dx, boolean blockDoors)
+    {
+        GreenfootImage img=a.getImage();
+        int w=img.getWidth();
+        int h=img.getHeight();
+        return sweep(a.getX() - w / 2, a.getY() - h / 2, w, h, dx, true, blockDoors);
+    }
+
+    /**
+     * How far actor a can move along Y,
+     * after it has already been swept by offsetX along X.
+     *
+     * @param a:            the moving actor, its image is the collision box
+     * @param offsetX:      x change already allowed by sweepX
+     * @param dy:           wanted change in y
+     * @param blockDoors:   true if Door hitboxes also block this actor
+     * @return the allowed change in y, between 0 and dy
+     */
+    public int sweepY(Actor a, int offsetX, int dy, boolean blockDoors)
+    {
+        GreenfootImage img=a.getImage();
+        int w=img.getWidth();
+        int h=img.getHeight();
+        return sweep(a.getX() + offsetX - w / 2, a.getY() - h / 2, w, h, dy, false, blockDoors);
+    }
+
+    /**
+     * Sweeps the box (left, top, w, h) by delta along one axis.
+     *
+     * Only things ahead of the leading edge can stop the move,
+     * so an actor that spawned overlapping a wall can still walk out of it.
+     */
+    private int sweep(int left, int top, int w, int h, int delta, boolean horizontal, boolean blockDoors)
+    {
+        if (delta == 0)
+        {
+            return 0;
+        }
+
+        //the area the box passes through
+        int x1=left;
+        int x2=left + w;
+        int y1=top;
+        int y2=top + h;
+        if (horizontal)
+        {
+            if (delta > 0) x2 += delta; else x1 += delta;
+        }
+        else
+        {
+            if (delta > 0) y2 += delta; else y1 += delta;
+        }
+
+        //leading edge in the direction of travel
+        int lead;
+        if (horizontal)
+        {
+            lead=(delta > 0) ? left + w : left;
+        }
+        else
+        {
+            lead=(delta > 0) ? top + h : top;
+        }
+
+        int allowed=delta;
+
+        //solid tiles
+        int c1=Math.max(0, colAt(x1));
+        int c2=Math.min(GameConfig.MAP_COLS - 1, colAt(x2 - 1));
+        int r1=Math.max(0, rowAt(y1));
+        int r2=Math.min(GameConfig.MAP_ROWS - 1, rowAt(y2 - 1));
+        for (int tr=r1; tr <= r2; tr++)
+        {
+            for (int tc=c1; tc <= c2; tc++)
+            {
+                if (!solid[tr][tc])
+                {
+                    continue;
+                }
+                if (horizontal)
+                {
+                    allowed=clip(allowed, delta, lead, COL_EDGE[tc], COL_EDGE[tc + 1]);
+                }
+                else
+                {
+                    allowed=clip(allowed, delta, lead, ROW_EDGE[tr], ROW_EDGE[tr + 1]);
+                }
+            }
+        }
+
+        //blockers that are not tiles
+        for (int i=0; i < blockers.size(); i++)
+        {
+            allowed=clipActor(blockers.get(i), allowed, delta, lead, horizontal, x1, x2, y1, y2);
+        }
+
+        //doors
+        if (blockDoors)
+        {
+            for (int i=0; i < doors.size(); i++)
+            {
+                allowed=clipActor(doors.get(i), allowed, delta, lead, horizontal, x1, x2, y1, y2);
+            }
+        }
+
+        return allowed;
+    }
+
+    /**
+     * Clips the move against one actor's image box
+     * if that box overlaps the swept area.
+     */
+    private int clipActor(Actor b, int allowed, int delta, int lead, boolean horizontal,
+                          int x1, int x2, int y1, int y2)
+    {
+        if (b == null || b.getWorld() == null)
+        {
+            return allowed;
+        }
+
+        GreenfootImage img=b.getImage();
+        int bw=img.getWidth();
+        int bh=img.getHeight();
+        int bx1=b.getX() - bw / 2;
+        int by1=b.getY() - bh / 2;
+        int bx2=bx1 + bw;
+        int by2=by1 + bh;
+
+        //not in the way
+        if (bx2 <= x1 || bx1 >= x2 || by2 <= y1 || by1 >= y2)
+        {
+            return allowed;
+        }
+
+        if (horizontal)
+        {
+            return clip(allowed, delta, lead, bx1, bx2);
+        }
+        return clip(allowed, delta, lead, by1, by2);
+    }
+
+    /**
+     * 1D clip of a move against the span [lo, hi).
+     */
+    private int clip(int allowed, int delta, int lead, int lo, int hi)
+    {
+        if (delta > 0)
+        {
+            //span must reach past the leading edge to be ahead of us
+            if (hi > lead)
+            {
+                allowed=Math.min(allowed, Math.max(0, lo - lead));
+            }
+        }
+        else
+        {
+            if (lo < lead)
+            {
+                allowed=Math.max(allowed, Math.min(0, hi - lead));
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * @return tile column under pixel x,
+     *         -1 if left of the room, MAP_COLS if right of the room
+     */
+    public static int colAt(int x)
+    {
+        return indexAt(COL_EDGE, x);
+    }
+
+    /**
+     * @return tile row under pixel y,
+     *         -1 if above the room, MAP_ROWS if below the room
+     */
+    public static int rowAt(int y)
+    {
+        return indexAt(ROW_EDGE, y);
+    }
+
+    private static int indexAt(int[] edge, int p)
+    {
+        int last=edge.length - 2;
+        if (p < edge[0])
+        {
+            return -1;
+        }
+        if (p >= edge[last + 1])
+        {
+            return last + 1;
+        }
+
+        //estimate then correct for the rounding in GameConfig.tileLeft/tileTop
+        int i=(int)((p - edge[0]) * (long)(last + 1) / (edge[last + 1] - edge[0]));
+        if (i > last) i=last;
+        while (i > 0 && p < edge[i]) i--;
+        while (i < last && p >= edge[i + 1]) i++;
+        return i;
+    }
+
+    private static int[] buildColEdges()
+    {
+        int[] e=new int[GameConfig.MAP_COLS + 1];
+        for (int tc=0; tc < GameConfig.MAP_COLS; tc++)
+        {
+            e[tc]=GameConfig.tileLeft(tc);
+        }
+        e[GameConfig.MAP_COLS]=GameConfig.tileRight(GameConfig.MAP_COLS - 1);
+        return e;
+    }
+
+    private static int[] buildRowEdges()
+    {
+        int[] e=new int[GameConfig.MAP_ROWS + 1];
+        for (int tr=0; tr < GameConfig.MAP_ROWS; tr++)
+        {
+            e[tr]=GameConfig.tileTop(tr);
+        }
+        e[GameConfig.MAP_ROWS]=GameConfig.tileBottom(GameConfig.MAP_ROWS - 1);
+        return e;
+    }
+}
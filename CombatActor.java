@@ -26,7 +26,11 @@ public abstract class CombatActor extends WalkingActor
 
     //cooldown frames
     protected int attackCooldownMax=12;
-    protected int attackCooldown=0;
+    //now() frame the cooldown ends
+    protected long attackReadyAt=0;
+
+    //clock for actors outside a GameWorld, counted by the actor itself
+    protected long ownFrames=0;
 
     //which frame triggers the hit (0-based)
     protected int hitFrame=2;
@@ -51,6 +55,27 @@ public abstract class CombatActor extends WalkingActor
         return maxHealth; 
     }
 
+    /**
+     * @return the frame clock cooldowns are kept on,
+     *         the GameWorld's TimerWheel, which stops while paused
+     */
+    protected long now()
+    {
+        World w=getWorld();
+        if (w instanceof GameWorld)
+        {
+            return ((GameWorld) w).getTimers().now();
+        }
+        return ownFrames;
+    }
+    /**
+     * @return true once the cooldown after the last attack is over
+     */
+    protected boolean attackReady()
+    {
+        return now() >= attackReadyAt;
+    }
+
     /**
      * Loads directional attack frames
      *
@@ -65,7 +90,7 @@ public abstract class CombatActor extends WalkingActor
         atkRight=loadFramesRequired(folder + "/right", frameCount);
 
         //left mirror from right
-        atkLeft =mirrorImage(atkRight);
+        atkLeft =loadFramesRequired(folder + "/right", frameCount, true);
     }
 
     /**
@@ -110,7 +135,7 @@ public abstract class CombatActor extends WalkingActor
             //if attack frames missing
             //end attack immediately
             attacking=false;
-            attackCooldown=attackCooldownMax;
+            attackReadyAt=now() + attackCooldownMax;
             setImage(framesFor(dir)[0]);
             return;
         }
@@ -137,7 +162,7 @@ public abstract class CombatActor extends WalkingActor
         if (atkFrameIndex >= frames.length)
         {
             attacking=false;
-            attackCooldown=attackCooldownMax;
+            attackReadyAt=now() + attackCooldownMax;
             resetAnim();
             setImage(framesFor(dir)[0]);
             return;
@@ -97,6 +97,36 @@ public class Door extends SuperSmoothMover
         buildVisual();
         syncVisualLocation();
     }
+    /**
+     * Removes the door and its visual from the world,
+     * used by RoomActors when the next room has no door this way.
+     */
+    public void removeWithVisual()
+    {
+        World w = getWorld();
+        if (w == null)
+        {
+            return;
+        }
+        if (visual != null && visual.getWorld() != null)
+        {
+            w.removeObject(visual);
+        }
+        w.removeObject(this);
+    }
+    /**
+     * Called when the door is reused for the next room (RoomActors):
+     * locked again without a sound, so DoorSystem unlocks it like a new door.
+     */
+    public void resetForRoom()
+    {
+        unlocked = false;
+        if (visual != null && visual.getWorld() != null)
+        {
+            visual.setSprite(getVisualPath(), shouldMirror());
+            syncVisualLocation();
+        }
+    }
     /**
      * called by Door System to and use dr+dc 
      * to figure out which neighboring room the door leads to.
@@ -279,8 +309,11 @@ public class Door extends SuperSmoothMover
             w.removeObject(visual);
         }
 
-        //create new big visual
-        visual = new DoorVisual(getVisualPath(), visualW, visualH);
+        //create the big visual once, a reused door adds it again
+        if (visual == null)
+        {
+            visual = new DoorVisual(getVisualPath(), visualW, visualH);
+        }
         visual.setSprite(getVisualPath(), shouldMirror());
         w.addObject(visual, getX(), getY());
     }
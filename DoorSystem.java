@@ -21,6 +21,9 @@ public class DoorSystem
     //invisible wall blocks added across door gaps while locked.
     private ArrayList<Blocker> doorBlockers = new ArrayList<Blocker>();
 
+    //blockers taken out of the world, reused by blockDoor()
+    private ArrayList<Blocker> spareBlockers = new ArrayList<Blocker>();
+
     //used to rebuild door blockers
     //when lock/unlock state changes
     private boolean lastUnlocked = true;
@@ -38,6 +41,7 @@ public class DoorSystem
      */
     public void onRoomLoaded() 
     {
+        spareBlockers.addAll(doorBlockers);
         doorBlockers.clear();
 
         //reset so the next syncDoorBlockers() 
@@ -109,7 +113,9 @@ public class DoorSystem
             {
                 world.removeObject(b);   
             }
+            world.getCollisionGrid().removeBlocker(b);
         }
+        spareBlockers.addAll(doorBlockers);
         doorBlockers.clear();
     
         //If unlocked
@@ -148,9 +154,30 @@ public class DoorSystem
         int w = (dc != 0) ? GameConfig.BORDER_THICK : GameConfig.DOOR_GAP_W;
         int h = (dc != 0) ? GameConfig.DOOR_GAP_H    : GameConfig.BORDER_THICK;
 
-        Blocker b = new DoorBlocker(w, h);
+        Blocker b = takeSpareBlocker(w, h);
+        if (b == null)
+        {
+            b = new DoorBlocker(w, h);
+        }
         world.addObject(b, door.getX(), door.getY());
         doorBlockers.add(b);
+        world.getCollisionGrid().addBlocker(b);
+    }
+
+    /**
+     * @return a spare blocker of size w x h, or null if there is none
+     */
+    private Blocker takeSpareBlocker(int w, int h)
+    {
+        for (int i = 0; i < spareBlockers.size(); i++)
+        {
+            Blocker b = spareBlockers.get(i);
+            if (b.getImage().getWidth() == w && b.getImage().getHeight() == h)
+            {
+                return spareBlockers.remove(i);
+            }
+        }
+        return null;
     }
 
     /**
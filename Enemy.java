@@ -5,6 +5,14 @@ import greenfoot.*;
  *
  * Subclasses need to implement computeMove().
  *
+ * In a GameWorld the enemy is driven by its EnemySystem: it has a slot there,
+ * and its freeze timer, contact cooldown and health live in the system's arrays
+ * while it does.
+ *
+ * A frame is split in two:
+ * - think(): decides, only reads the world and writes this enemy's own fields,
+ *   EnemySystem may run it on another thread
+ * - step(): does it (moves, animates, damages), always on the game thread
  * 
  * @author:     Owen Kung
  * @version:    Jan 2026
@@ -16,8 +24,8 @@ public abstract class Enemy extends CombatActor
     protected Player player;
 
     //damage cooldown so enemy doesn't hit every single frame
-    //when cooldown=0, take damage
-    protected int hitCooldown=0;
+    //now() frame the next contact can hurt
+    protected long hitReadyAt=0;
 
     //cooldown frames
     //before next damage can count
@@ -38,8 +46,19 @@ public abstract class Enemy extends CombatActor
     //Positive offset=bar appears UNDER the enemy
     protected int HP_BAR_Y_OFFSET=50;
     
-    //freeze timer (stone skill)
-    protected int freezeTimer = 0;
+    //freeze (stone skill), frozen up to and including this now() frame
+    protected long freezeUntil = -1;
+
+    //how far below the enemy "Stoned" shows
+    protected int stonedTextOffset=50;
+
+    //EnemySystem slot while in a GameWorld, -1 otherwise
+    //freezeUntil, hitReadyAt and health are only up to date while it is -1
+    int slot=-1;
+    private EnemySystem system;
+
+    //one "Stoned" text per freeze, kept up while frozen
+    private FloatingText stonedText;
 
     public Enemy(Player target) 
     {
@@ -60,7 +79,8 @@ public abstract class Enemy extends CombatActor
 
     //subclass must implement these methods
     //calculate how the enemy would move in the world
-    protected abstract int[] computeMove();
+    //result goes into moveDx/moveDy through setMove()
+    protected abstract void computeMove();
     //set specific attack sound effect when needed
     protected abstract void playAttackSoundEffect();
      //set specific end of life sound effec if needed
@@ -76,7 +96,7 @@ public abstract class Enemy extends CombatActor
         if (hpBar == null)
         {
             maxHealth=getMaxHealth();
-            health=maxHealth;
+            setHealth(maxHealth);
         
             //HealthBar(CombatActor unit, Actor follow, int width, int height, boolean followTarget, int yOffset)
             hpBar=new HealthBar(this, this, HP_BAR_W, HP_BAR_H, true, HP_BAR_Y_OFFSET);
@@ -84,6 +104,20 @@ public abstract class Enemy extends CombatActor
             //add bar at the correct starting position
             world.addObject(hpBar, getX(), getY() + HP_BAR_Y_OFFSET);
         }
+
+        joinEnemySystem(world);
+    }
+    /**
+     * From now on the world's EnemySystem updates this enemy.
+     * Subclasses that skip Enemy.addedToWorld still call this.
+     */
+    protected void joinEnemySystem(World world)
+    {
+        if (world instanceof GameWorld)
+        {
+            system=((GameWorld) world).getEnemySystem();
+            system.add(this);
+        }
     }
     /**
      * When enemy is removed
@@ -96,7 +130,19 @@ public abstract class Enemy extends CombatActor
             world.removeObject(hpBar);
         }
     }
+    /**
+     * Only runs outside an EnemySystem, which otherwise does the same
+     * for every enemy at once from GameWorld.act.
+     */
     public void act() 
+    {
+        if (slot >= 0) return;
+
+        long t=FrameProfiler.begin();
+        enemyAct();
+        FrameProfiler.end(FrameProfiler.sectionOf(this), t);
+    }
+    private void enemyAct() 
     {
          //freeze  while paused
         if (GameWorld.isPaused()) return;
@@ -106,29 +152,49 @@ public abstract class Enemy extends CombatActor
             return;   
         }
         
-        //countdown freeze
+        ownFrames++;
+
         //stop movement  contact damage while frozen
-        if (freezeTimer > 0)
+        if (now() <= freezeUntil)
         {
-            showText("Stoned",Color.YELLOW,getX(),getY()+50,false);
-            freezeTimer--;
+            frozenFrame();
             return; 
         }
-    
-        if (hitCooldown > 0)
-        {
-            hitCooldown--;
-        }
 
-        regularMovement();
+        think();
+        step();
+    }
+    /**
+     * A frame while frozen.
+     */
+    void frozenFrame()
+    {
+        showStonedText(stonedTextOffset);
+    }
+    /**
+     * Decision part of a frame while not frozen: picks the move.
+     * May run on an EnemySystem worker thread, so it must not change
+     * the world or anything shared, only this enemy's own fields.
+     */
+    protected void think()
+    {
+        computeMove(); //subclass decides movement
+    }
+    /**
+     * Action part of a frame while not frozen, after think().
+     * Game thread only.
+     * Subclasses with their own rules override this.
+     */
+    protected void step()
+    {
+        applyMove();
         handlePlayerContact();
     }
-    protected void regularMovement()
+    //walk by moveDx/moveDy, or stand still
+    protected void applyMove()
     {
-        
-        int[] mv=computeMove(); //subclass decides movement
-        int dx=mv[0];
-        int dy=mv[1];
+        int dx=moveDx;
+        int dy=moveDy;
 
         boolean moving=false;
         if (dx != 0 || dy != 0)
@@ -203,9 +269,9 @@ public abstract class Enemy extends CombatActor
             return;
         }
 
-        if (isTouching(Player.class) && hitCooldown == 0) 
+        if (now() >= getHitReadyAt() && touchingPlayer()) 
         {
-            hitCooldown=hitCooldownFrames;
+            setHitReadyAt(now() + hitCooldownFrames);
             //deal damage to the player 
             if (player != null)
             {
@@ -219,6 +285,18 @@ public abstract class Enemy extends CombatActor
             }
         }
     }
+    /**
+     * isTouching(Player.class), answered by the world's SpatialHash when there is one
+     */
+    protected boolean touchingPlayer()
+    {
+        World w=getWorld();
+        if (w instanceof GameWorld)
+        {
+            return ((GameWorld) w).getSpatialHash().isTouching(this, Player.class);
+        }
+        return isTouching(Player.class);
+    }
     /**
      * @reaturn damage power of the enemy, based on difficulty level
      */
@@ -238,7 +316,8 @@ public abstract class Enemy extends CombatActor
     }
     /**
      * Freeze this enemy for a number of frames.
-     * While frozen, the enemy will not move or damage the player.
+     * While frozen, the enemy will not move or damage the player,
+     * and its cooldowns wait: they are moved back by the frozen time.
      *
      * @param frames number of frames to freeze
      */
@@ -248,14 +327,89 @@ public abstract class Enemy extends CombatActor
         {
             return;
         }
-        freezeTimer = frames;
+        long now = now();
+        long until = now + frames;
+
+        //frames added to (or cut from) a freeze still running
+        long oldUntil = (slot >= 0) ? system.freezeUntil[slot] : freezeUntil;
+        shiftCooldowns(until - Math.max(now, oldUntil));
+
+        if (slot >= 0)
+        {
+            system.freezeUntil[slot] = until;
+        }
+        else
+        {
+            freezeUntil = until;
+        }
+    }
+    /**
+     * Moves every cooldown still running by frames,
+     * subclasses with their own cooldowns add them.
+     */
+    protected void shiftCooldowns(long frames)
+    {
+        long now = now();
+        setHitReadyAt(shifted(getHitReadyAt(), now, frames));
+        attackReadyAt = shifted(attackReadyAt, now, frames);
+    }
+    /**
+     * @return readyAt moved by frames, if that cooldown is still running
+     */
+    protected static long shifted(long readyAt, long now, long frames)
+    {
+        return (readyAt > now) ? readyAt + frames : readyAt;
+    }
+    /**
+     * Shows "Stoned" below the enemy while frozen.
+     * The same text is moved and kept opaque each frame
+     * instead of adding a new one every frame.
+     *
+     * @param yOffset how far below the enemy to show it
+     */
+    protected void showStonedText(int yOffset)
+    {
+        if (stonedText == null || stonedText.getWorld() == null)
+        {
+            stonedText = new FloatingText("Stoned", Color.YELLOW, false);
+            getWorld().addObject(stonedText, getX(), getY() + yOffset);
+            return;
+        }
+        stonedText.setLocation(getX(), getY() + yOffset);
+        stonedText.restart();
     }
     /**
     /* @returnenemy current HP
      */
     public int getHealth() 
     { 
-        return health; 
+        return (slot >= 0) ? system.health[slot] : health; 
+    }
+    private void setHealth(int hp)
+    {
+        if (slot >= 0)
+        {
+            system.health[slot]=hp;
+        }
+        else
+        {
+            health=hp;
+        }
+    }
+    protected long getHitReadyAt()
+    {
+        return (slot >= 0) ? system.hitReadyAt[slot] : hitReadyAt;
+    }
+    protected void setHitReadyAt(long frame)
+    {
+        if (slot >= 0)
+        {
+            system.hitReadyAt[slot]=frame;
+        }
+        else
+        {
+            hitReadyAt=frame;
+        }
     }
     /**
      * @return: Max health of the enemy, difficulty level based
@@ -295,10 +449,11 @@ public abstract class Enemy extends CombatActor
     {
         if (amount <= 0) return;
     
-        health -= amount;
-        if (health<=0) health=0;
+        int hp=getHealth() - amount;
+        if (hp<=0) hp=0;
+        setHealth(hp);
     
-        if (health <= 0 && getWorld() != null)
+        if (hp <= 0 && getWorld() != null)
         {
             player.addScore(maxHealth);
             SoundManager.playRewardSound();
@@ -17,27 +17,29 @@ public class EnemyArrow extends Bullet
      */
     public EnemyArrow(int dirX, int dirY,int damagePower){
         super(dirX, dirY, damagePower);
-        
-        speed = 2;
+    }
+
+    /**
+     * Sets the arrow up for a new shot,
+     * used by the constructor and by ProjectilePool when it reuses one.
+     */
+    public void reset(int dirX, int dirY, int damagePower){
+        super.reset(dirX, dirY, damagePower);
 
         //arrow sprite points LEFT by default
+        //SpriteCache reads each png once, the images are shared
         if (dirX == 1){
             //RIGHT
-            setImage(new GreenfootImage("enemy/skeleton/arrow.png"));
-            getImage().mirrorHorizontally(); 
-            getImage().scale(45, 20);
+            setImage(SpriteCache.getMirrored("enemy/skeleton/arrow.png", 45, 20));
         }else if (dirX == -1){
             //LEFT
-            setImage(new GreenfootImage("enemy/skeleton/arrow.png"));
-            getImage().scale(45, 20);
+            setImage(SpriteCache.get("enemy/skeleton/arrow.png", 45, 20));
         }else if (dirY == -1){
             //UP
-            setImage(new GreenfootImage("enemy/skeleton/arrow_up.png"));
-            getImage().scale(20, 45);  
+            setImage(SpriteCache.get("enemy/skeleton/arrow_up.png", 20, 45));
         }else if (dirY == 1){
             //DOWN
-            setImage(new GreenfootImage("enemy/skeleton/arrow_down.png"));
-            getImage().scale(20, 45);  
+            setImage(SpriteCache.get("enemy/skeleton/arrow_down.png", 20, 45));
         }  
   
     }
@@ -46,12 +48,16 @@ public class EnemyArrow extends Bullet
      * When the enemy's arrow hit the player: 
      */
     protected boolean handleHit(){
-        Player p = (Player) getOneIntersectingObject(Player.class);
+        Player p;
+        if (getWorld() instanceof GameWorld){
+            p = ((GameWorld) getWorld()).getSpatialHash().getOneIntersecting(this, Player.class);
+        }
+        else{
+            p = (Player) getOneIntersectingObject(Player.class);
+        }
         if (p != null){
             p.takeDamage(getDamagePower());
-            if (getWorld() != null){
-                getWorld().removeObject(this);
-            }
+            ProjectilePool.release(this);
             return true;
         }
         return false;
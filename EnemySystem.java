@@ -0,0 +1,332 @@
+import greenfoot.*;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * EnemySystem updates every enemy in the room from GameWorld.act,
+ * instead of each Enemy running its own act().
+ *
+ * The per-frame state lives in plain arrays, one slot per enemy:
+ * - kind, position, speed, this frame's move
+ * - frame the freeze ends, frame the next contact can hurt, health
+ *
+ * One update():
+ * - drops enemies that left the world since the last frame
+ * - reads every position once
+ * - marks which enemies are frozen, comparing with the TimerWheel clock
+ * - think phase: every enemy decides its move (Enemy.think), zombies are
+ *   steered straight from the arrays with the shared FlowField.
+ *   Nothing in the world changes here, so with PARALLEL_MIN or more
+ *   enemies it is split over the common ForkJoinPool
+ * - act phase: one pass per kind (all zombies, all wanderers, ...)
+ *   applies moves, attacks and damage on the game thread
+ *
+ * Each enemy only writes its own slot and fields while thinking, and
+ * draws from its own Random (GameRandom.forActor), so a frame comes out
+ * the same whether it ran on one thread or many.
+ *
+ * The Enemy actors stay in the world for drawing, collisions and the
+ * rest of the game, they read/write their cooldowns and health through
+ * their slot. Slots keep spawn order, so the update order is the same
+ * every run with the same seed.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class EnemySystem
+{
+    //kinds, also the order the passes run in
+    public static final int ZOMBIE=0;
+    public static final int WANDER=1;
+    public static final int SKELETON=2;
+    public static final int HAZARD=3;
+    public static final int BOSS=4;
+    public static final int KINDS=5;
+
+    //fewer enemies than this think on the game thread,
+    //handing out the work would cost more than it saves
+    public static final int PARALLEL_MIN=64;
+
+    //enemies per fork-join task
+    private static final int CHUNK=16;
+
+    //FrameProfiler section each pass is timed under
+    private static final int[] SECTION=
+    {
+        FrameProfiler.ZOMBIE, FrameProfiler.WANDER, FrameProfiler.SKELETON,
+        FrameProfiler.HAZARD, FrameProfiler.BOSS
+    };
+
+    private final World world;
+
+    //number of slots in use
+    private int count=0;
+
+    //slot data, grown together
+    private Enemy[] proxy=new Enemy[32];
+    private int[] kind=new int[32];
+    private int[] x=new int[32];
+    private int[] y=new int[32];
+    private int[] speed=new int[32];
+    //zombie moves, move[2 * i]=dx, move[2 * i + 1]=dy
+    private int[] move=new int[64];
+    long[] freezeUntil=new long[32];
+    long[] hitReadyAt=new long[32];
+    int[] health=new int[32];
+
+    //frozen this frame
+    private boolean[] frozen=new boolean[32];
+
+    //what the think phase reads, set on the game thread before it starts
+    private Player target;
+    private FlowField flow;
+
+    public EnemySystem(World world)
+    {
+        this.world=world;
+    }
+
+    /**
+     * Gives e a slot, called when it is added to the world.
+     */
+    public void add(Enemy e)
+    {
+        if (e.slot >= 0) return;
+
+        if (count == proxy.length)
+        {
+            grow(count * 2);
+        }
+        int i=count++;
+        proxy[i]=e;
+        kind[i]=kindOf(e);
+        speed[i]=e.speed;
+        freezeUntil[i]=e.freezeUntil;
+        hitReadyAt[i]=e.hitReadyAt;
+        health[i]=e.health;
+        e.slot=i;
+    }
+
+    /**
+     * @return enemies with a slot, removed ones included until the next update()
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /**
+     * One frame for every enemy. Not called while paused.
+     */
+    public void update()
+    {
+        compact();
+
+        //enemies added during this update (boss waves) start next frame
+        int n=count;
+
+        for (int i=0; i < n; i++)
+        {
+            x[i]=proxy[i].getX();
+            y[i]=proxy[i].getY();
+        }
+
+        //stop movement and contact damage while frozen
+        long now=(world instanceof GameWorld) ? ((GameWorld) world).getTimers().now() : 0;
+        for (int i=0; i < n; i++)
+        {
+            frozen[i]=now <= freezeUntil[i];
+        }
+
+        //think phase, read only
+        prepareThink(n);
+        long t=FrameProfiler.begin();
+        if (n >= PARALLEL_MIN)
+        {
+            ForkJoinPool.commonPool().invoke(new ThinkTask(0, n));
+        }
+        else
+        {
+            think(0, n);
+        }
+        FrameProfiler.end(FrameProfiler.THINK, t);
+
+        //act phase, one kind at a time
+        for (int k=0; k < KINDS; k++)
+        {
+            t=FrameProfiler.begin();
+            act(k, n);
+            FrameProfiler.end(SECTION[k], t);
+        }
+    }
+
+    /**
+     * Finds the player the zombies chase and points the FlowField at it,
+     * setTarget may rebuild the field so it is not done while thinking.
+     */
+    private void prepareThink(int n)
+    {
+        target=null;
+        for (int i=0; i < n; i++)
+        {
+            if (kind[i] == ZOMBIE && proxy[i].player != null)
+            {
+                //all zombies chase the same player
+                target=proxy[i].player;
+                break;
+            }
+        }
+        if (target != null && target.getWorld() == null)
+        {
+            target=null;
+        }
+
+        flow=(world instanceof GameWorld) ? ((GameWorld) world).getFlowField() : null;
+        if (flow != null && target != null)
+        {
+            flow.setTarget(target.getX(), target.getY());
+        }
+    }
+
+    /**
+     * Think phase for slots from to to-1, may run on a worker thread.
+     */
+    private void think(int from, int to)
+    {
+        for (int i=from; i < to; i++)
+        {
+            if (frozen[i]) continue;
+
+            if (kind[i] == ZOMBIE)
+            {
+                if (target == null)
+                {
+                    move[2 * i]=0;
+                    move[2 * i + 1]=0;
+                }
+                else
+                {
+                    ZombieEnemy.chase(flow, target.getX(), target.getY(), x[i], y[i], speed[i], move, 2 * i);
+                }
+            }
+            else
+            {
+                proxy[i].think();
+            }
+        }
+    }
+
+    /**
+     * Splits the think phase in CHUNK sized pieces.
+     */
+    private class ThinkTask extends RecursiveAction
+    {
+        private static final long serialVersionUID=1L;
+
+        private final int from;
+        private final int to;
+
+        ThinkTask(int from, int to)
+        {
+            this.from=from;
+            this.to=to;
+        }
+
+        protected void compute()
+        {
+            if (to - from <= CHUNK)
+            {
+                think(from, to);
+                return;
+            }
+            int mid=(from + to) >>> 1;
+            invokeAll(new ThinkTask(from, mid), new ThinkTask(mid, to));
+        }
+    }
+
+    /**
+     * Act phase for every enemy of kind k, game thread.
+     */
+    private void act(int k, int n)
+    {
+        for (int i=0; i < n; i++)
+        {
+            if (kind[i] != k) continue;
+
+            Enemy e=proxy[i];
+            if (e.getWorld() != world) continue;
+            if (frozen[i])
+            {
+                e.frozenFrame();
+                continue;
+            }
+            if (k == ZOMBIE)
+            {
+                e.setMove(move[2 * i], move[2 * i + 1]);
+            }
+            e.step();
+        }
+    }
+
+    /**
+     * Frees the slots of enemies no longer in the world,
+     * their state is copied back into the Enemy first.
+     * Keeps the order of the others.
+     */
+    private void compact()
+    {
+        int to=0;
+        for (int i=0; i < count; i++)
+        {
+            Enemy e=proxy[i];
+            if (e.getWorld() != world)
+            {
+                e.freezeUntil=freezeUntil[i];
+                e.hitReadyAt=hitReadyAt[i];
+                e.health=health[i];
+                e.slot=-1;
+                continue;
+            }
+            if (to != i)
+            {
+                proxy[to]=e;
+                kind[to]=kind[i];
+                speed[to]=speed[i];
+                freezeUntil[to]=freezeUntil[i];
+                hitReadyAt[to]=hitReadyAt[i];
+                health[to]=health[i];
+                e.slot=to;
+            }
+            to++;
+        }
+        for (int i=to; i < count; i++)
+        {
+            proxy[i]=null;
+        }
+        count=to;
+    }
+
+    private void grow(int size)
+    {
+        proxy=Arrays.copyOf(proxy, size);
+        kind=Arrays.copyOf(kind, size);
+        x=Arrays.copyOf(x, size);
+        y=Arrays.copyOf(y, size);
+        speed=Arrays.copyOf(speed, size);
+        move=Arrays.copyOf(move, 2 * size);
+        freezeUntil=Arrays.copyOf(freezeUntil, size);
+        hitReadyAt=Arrays.copyOf(hitReadyAt, size);
+        health=Arrays.copyOf(health, size);
+        frozen=Arrays.copyOf(frozen, size);
+    }
+
+    private static int kindOf(Enemy e)
+    {
+        if (e instanceof ZombieEnemy) return ZOMBIE;
+        if (e instanceof SkeletonEnemy) return SKELETON;
+        if (e instanceof HazardEnemy) return HAZARD;
+        if (e instanceof SummonerBoss) return BOSS;
+        return WANDER;
+    }
+}
@@ -23,7 +23,7 @@ public class FloatingText extends Actor
      */
     public FloatingText(String message) 
     {
-        GreenfootImage img = new GreenfootImage(message, 20, Color.GREEN, new Color(0,0,0,0)); //green text, transparent bakground
+        GreenfootImage img = GlyphAtlas.get(20, Color.GREEN).render(message); //green text, transparent bakground
         setImage(img);
     }
     /*
@@ -36,7 +36,7 @@ public class FloatingText extends Actor
      */
     public FloatingText(String message, Color color) 
     {
-        GreenfootImage img = new GreenfootImage(message, 20, color, new Color(0,0,0,0));//custom color, transparent bakground
+        GreenfootImage img = GlyphAtlas.get(20, color).render(message);//custom color, transparent bakground
         setImage(img);
     }
     /*
@@ -50,9 +50,17 @@ public class FloatingText extends Actor
     public FloatingText(String message, Color color,boolean floating) 
     {
         this.floating=floating;
-        GreenfootImage img = new GreenfootImage(message, 20, color, new Color(0,0,0,0));//custom color, transparent bakground
+        GreenfootImage img = GlyphAtlas.get(20, color).render(message);//custom color, transparent bakground
         setImage(img);
     }
+    /*
+     * Starts the fade over, e.g. to keep a status text up while it still applies
+     */
+    public void restart()
+    {
+        timer = 0;
+        getImage().setTransparency(255);
+    }
     /*
      * Determine how long the text will stay on the screen
      */
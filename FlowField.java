@@ -0,0 +1,194 @@
+import greenfoot.*;
+
+/**
+ * FlowField tells chasing enemies which tile to walk to next
+ * so they go around walls and statues instead of piling up against them.
+ *
+ * - walkable tiles are read from RoomData once per room load
+ * - a BFS from the player's tile fills dist[tr][tc],
+ *   the number of tile steps to reach the player
+ * - the BFS only runs again when the player moves to another tile,
+ *   every zombie in the room then just looks up its own tile
+ *
+ * GameWorld owns one FlowField and resets it in loadRoom().
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class FlowField
+{
+    //dist value for tiles that cannot reach the player
+    public static final int UNREACHABLE=Integer.MAX_VALUE;
+
+    private static final int ROWS=GameConfig.MAP_ROWS;
+    private static final int COLS=GameConfig.MAP_COLS;
+
+    //open[tr][tc]=true when a tile can be walked on
+    private boolean[][] open=new boolean[ROWS][COLS];
+
+    //steps from each tile to the target tile
+    private int[][] dist=new int[ROWS][COLS];
+
+    //BFS queue, tr * COLS + tc, reused every build
+    private int[] queue=new int[ROWS * COLS];
+
+    //tile the field currently leads to, -1 when not built
+    private int targetR=-1;
+    private int targetC=-1;
+
+    /**
+     * Reads the walkable tiles of a room and forgets the old field.
+     *
+     * @param rd: tile layout of the room being loaded
+     */
+    public void loadRoom(RoomData rd)
+    {
+        for (int tr=0; tr < ROWS; tr++)
+        {
+            for (int tc=0; tc < COLS; tc++)
+            {
+                int code=(rd == null) ? GameConfig.FLOOR : rd.tiles[tr][tc];
+                //doors are walkable for the player only
+                open[tr][tc]=!CollisionGrid.isSolidCode(code) && code != GameConfig.DOOR;
+            }
+        }
+        targetR=-1;
+        targetC=-1;
+    }
+
+    /**
+     * Makes the field lead to the tile under (x, y).
+     * Does nothing if it already does.
+     *
+     * @param x,y: target pixel location, usually the player
+     */
+    public void setTarget(int x, int y)
+    {
+        int tr=clampRow(CollisionGrid.rowAt(y));
+        int tc=clampCol(CollisionGrid.colAt(x));
+        if (tr == targetR && tc == targetC)
+        {
+            return;
+        }
+        targetR=tr;
+        targetC=tc;
+        build();
+    }
+
+    /**
+     * Breadth first search out from the target tile.
+     */
+    private void build()
+    {
+        for (int tr=0; tr < ROWS; tr++)
+        {
+            for (int tc=0; tc < COLS; tc++)
+            {
+                dist[tr][tc]=UNREACHABLE;
+            }
+        }
+
+        int head=0;
+        int tail=0;
+        dist[targetR][targetC]=0;
+        queue[tail++]=targetR * COLS + targetC;
+
+        while (head < tail)
+        {
+            int cell=queue[head++];
+            int tr=cell / COLS;
+            int tc=cell % COLS;
+            int next=dist[tr][tc] + 1;
+
+            tail=visit(tr - 1, tc, next, tail);
+            tail=visit(tr + 1, tc, next, tail);
+            tail=visit(tr, tc - 1, next, tail);
+            tail=visit(tr, tc + 1, next, tail);
+        }
+    }
+
+    private int visit(int tr, int tc, int d, int tail)
+    {
+        if (tr < 0 || tr >= ROWS || tc < 0 || tc >= COLS)
+        {
+            return tail;
+        }
+        if (!open[tr][tc] || dist[tr][tc] != UNREACHABLE)
+        {
+            return tail;
+        }
+        dist[tr][tc]=d;
+        queue[tail]=tr * COLS + tc;
+        return tail + 1;
+    }
+
+    /**
+     * @return steps from tile (tr, tc) to the target, or UNREACHABLE
+     */
+    public int distanceAt(int tr, int tc)
+    {
+        if (targetR < 0 || tr < 0 || tr >= ROWS || tc < 0 || tc >= COLS)
+        {
+            return UNREACHABLE;
+        }
+        return dist[tr][tc];
+    }
+
+    /**
+     * Picks the neighbour tile that is one step closer to the target.
+     * Diagonals are allowed only if both side tiles are open,
+     * so an enemy never tries to cut a wall corner.
+     *
+     * @param x,y: pixel location of the enemy
+     * @return tr * MAP_COLS + tc of the next tile,
+     *         or -1 if already on the target tile or no path exists
+     */
+    public int nextTile(int x, int y)
+    {
+        int tr=clampRow(CollisionGrid.rowAt(y));
+        int tc=clampCol(CollisionGrid.colAt(x));
+        int here=distanceAt(tr, tc);
+        if (here == 0 || here == UNREACHABLE)
+        {
+            return -1;
+        }
+
+        int best=-1;
+        int bestDist=here;
+        for (int dr=-1; dr <= 1; dr++)
+        {
+            for (int dc=-1; dc <= 1; dc++)
+            {
+                if (dr == 0 && dc == 0)
+                {
+                    continue;
+                }
+                int nr=tr + dr;
+                int nc=tc + dc;
+                int d=distanceAt(nr, nc);
+                if (d >= bestDist)
+                {
+                    continue;
+                }
+                if (dr != 0 && dc != 0
+                    && (distanceAt(tr + dr, tc) == UNREACHABLE || distanceAt(tr, tc + dc) == UNREACHABLE))
+                {
+                    continue;
+                }
+                best=nr * COLS + nc;
+                bestDist=d;
+            }
+        }
+        return best;
+    }
+
+    private int clampRow(int tr)
+    {
+        return Math.max(0, Math.min(ROWS - 1, tr));
+    }
+
+    private int clampCol(int tc)
+    {
+        return Math.max(0, Math.min(COLS - 1, tc));
+    }
+}
@@ -0,0 +1,210 @@
+import java.util.Arrays;
+
+/**
+ * FrameProfiler measures where frame time goes, per subsystem.
+ *
+ * - code being measured calls begin() and end(section, t) around itself,
+ *   the time adds up into that section for the current frame
+ * - GameWorld.act calls frame() first thing, which closes the last frame
+ *   and keeps its numbers in fixed-size ring buffers (last SAMPLES frames)
+ * - ProfilerOverlay reads p50/p99 and the top sections from here
+ *
+ * While disabled, begin() returns 0 without reading the clock and end()
+ * returns straight away, nothing is allocated.
+ * Everything runs on the game thread.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class FrameProfiler
+{
+    //sections
+    public static final int FRAME=0;        //GameWorld.act to the next GameWorld.act
+    public static final int PLAYER=1;
+    public static final int ZOMBIE=2;
+    public static final int WANDER=3;
+    public static final int SKELETON=4;
+    public static final int HAZARD=5;
+    public static final int BOSS=6;
+    public static final int PROJECTILES=7;  //Bullet, EnemyArrow, HitBox
+    public static final int HUD=8;          //side panel text, health bars, minimap
+    public static final int DOORS=9;        //DoorSystem
+    public static final int TIMERS=10;      //TimerWheel.tick (expiries, messages) and room rules
+    public static final int ROOM_LOAD=11;   //loadRoom, spawning included
+    public static final int SPAWNER=12;     //SpawnerSystem
+    public static final int THINK=13;       //EnemySystem think phase, all enemies
+    public static final int SECTIONS=14;
+
+    private static final String[] NAMES=
+    {
+        "frame", "player", "zombie", "wander", "skeleton", "hazard", "boss",
+        "projectiles", "hud", "doors", "timers", "room load", "spawner", "think"
+    };
+
+    //frames kept, about 4 seconds at 60 fps
+    public static final int SAMPLES=240;
+
+    private static boolean enabled=false;
+
+    //samples[section][frame % SAMPLES], in ns
+    private static long[][] samples=new long[SECTIONS][SAMPLES];
+
+    //time added to each section this frame
+    private static long[] current=new long[SECTIONS];
+
+    //frames recorded, next slot is frames % SAMPLES
+    private static int frames=0;
+
+    //start of the frame being measured, 0 before the first one
+    private static long frameStart=0;
+
+    //copy for percentiles, so samples keep their order
+    private static long[] sorted=new long[SAMPLES];
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Turns measuring on/off, on starts with empty buffers.
+     */
+    public static void setEnabled(boolean on)
+    {
+        if (on && !enabled)
+        {
+            frames=0;
+            frameStart=0;
+            for (int s=0; s < SECTIONS; s++)
+            {
+                current[s]=0;
+            }
+        }
+        enabled=on;
+    }
+
+    /**
+     * @return a start time for end(), or 0 while disabled
+     */
+    public static long begin()
+    {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since begin() to section.
+     */
+    public static void end(int section, long start)
+    {
+        if (start == 0 || !enabled) return;
+
+        current[section] += System.nanoTime() - start;
+    }
+
+    /**
+     * Closes the last frame and starts a new one.
+     * Called at the start of GameWorld.act.
+     */
+    public static void frame()
+    {
+        if (!enabled) return;
+
+        long now=System.nanoTime();
+        if (frameStart != 0)
+        {
+            current[FRAME]=now - frameStart;
+            int slot=frames % SAMPLES;
+            for (int s=0; s < SECTIONS; s++)
+            {
+                samples[s][slot]=current[s];
+                current[s]=0;
+            }
+            frames++;
+        }
+        frameStart=now;
+    }
+
+    /**
+     * @return the section an enemy's act time goes into
+     */
+    public static int sectionOf(Enemy e)
+    {
+        if (e instanceof ZombieEnemy) return ZOMBIE;
+        if (e instanceof SkeletonEnemy) return SKELETON;
+        if (e instanceof HazardEnemy) return HAZARD;
+        if (e instanceof SummonerBoss) return BOSS;
+        return WANDER;
+    }
+
+    public static String nameOf(int section)
+    {
+        return NAMES[section];
+    }
+
+    /**
+     * @return number of frames in the buffers, up to SAMPLES
+     */
+    public static int sampleCount()
+    {
+        return Math.min(frames, SAMPLES);
+    }
+
+    /**
+     * @param p: percentile 0 to 100
+     * @return that percentile of the section's per-frame time in ns
+     */
+    public static long percentile(int section, int p)
+    {
+        int n=sampleCount();
+        if (n == 0) return 0;
+
+        System.arraycopy(samples[section], 0, sorted, 0, n);
+        Arrays.sort(sorted, 0, n);
+        int i=(int) Math.min(n - 1, (long) n * p / 100);
+        return sorted[i];
+    }
+
+    /**
+     * @return average per-frame time of the section in ns
+     */
+    public static long mean(int section)
+    {
+        int n=sampleCount();
+        if (n == 0) return 0;
+
+        long total=0;
+        for (int i=0; i < n; i++)
+        {
+            total += samples[section][i];
+        }
+        return total / n;
+    }
+
+    /**
+     * Fills out with the sections taking the most time on average,
+     * slowest first, FRAME left out.
+     *
+     * @return how many were filled in
+     */
+    public static int topSections(int[] out)
+    {
+        int count=0;
+        for (int s=FRAME + 1; s < SECTIONS; s++)
+        {
+            long m=mean(s);
+            if (m == 0) continue;
+
+            //insertion into the short sorted list
+            int i=Math.min(count, out.length - 1);
+            if (count == out.length && m <= mean(out[i])) continue;
+            while (i > 0 && mean(out[i - 1]) < m)
+            {
+                out[i]=out[i - 1];
+                i--;
+            }
+            out[i]=s;
+            if (count < out.length) count++;
+        }
+        return count;
+    }
+}
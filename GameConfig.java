@@ -138,6 +138,18 @@ public class GameConfig
     
     //file for reloading data later
     public static final String SAVE_FILE = "save.txt";  
+    public static final String SAVE_BIN_FILE = "save.dat";
+    public static final String SAVE_JOURNAL_FILE = "save.jnl";
+    //autosaves appended to the journal before it is folded into save.dat
+    public static final int JOURNAL_COMPACT_RECORDS = 20;
+    //autosave every minute of play
+    public static final int AUTOSAVE_FRAMES = 60 * 60;
+    //keys + seed of the last session, for replaying it (InputLog)
+    //starting a session moves the log before it to INPUT_LOG_PREV_FILE,
+    //so a retry after a bad run still keeps that run
+    public static final boolean RECORD_INPUT = true;
+    public static final String INPUT_LOG_FILE = "session.rec";
+    public static final String INPUT_LOG_PREV_FILE = "session.prev.rec";
      /**
      * @return  SidePanel centreX position
      */
@@ -25,6 +25,9 @@ public class GameData
     public int axeAttackPower=GameConfig.WARRIOR_AXE_DEFAULT_ATTACK;
     public int swordAttackPower=GameConfig.WARRIOR_SWORD_DEFAULT_ATTACK;
     public int bulletAttackPower=GameConfig.WARRIOR_BULLET_DEFAULT_ATTACK;
+
+    //seed of GameRandom for this run, 0=not picked yet
+    public long seed=0;
     
     
     //currently handed by GameMap class
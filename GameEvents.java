@@ -0,0 +1,94 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GameEvents are Java Flight Recorder events for the game's slow moments,
+ * so a frame spike in a recording can be matched to the room change,
+ * enemy wave, save or image load that caused it.
+ *
+ * - RoomLoad:    GameWorld.loadRoom
+ * - SpawnWave:   SpawnerSystem.spawnEnemiesIfNeeded, SummonerBoss.spawnMinions
+ * - Save:        SaveManager.save, AutoSaver.submit
+ * - AssetDecode: SpriteCache, RoomRenderer backgrounds
+ *
+ * Each site does:  new event, begin(), the work, set the fields, commit().
+ * With no recording running commit() does nothing, and the JIT drops
+ * the event object, so the game pays nothing for them.
+ *
+ * Record with e.g.:
+ *   -XX:StartFlightRecording=filename=roomescape.jfr,settings=profile
+ * and look under the "Room Escape" category in JDK Mission Control.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class GameEvents
+{
+    @Name("roomescape.RoomLoad")
+    @Label("Room Load")
+    @Category("Room Escape")
+    @Description("GameWorld.loadRoom, from removing the old room to the new room being ready")
+    public static class RoomLoad extends Event
+    {
+        @Label("Row")
+        public int row;
+
+        @Label("Column")
+        public int col;
+
+        @Label("Room Type")
+        @Description("C combat, B boss, D dodge, R trap, S shop ...")
+        public String roomType;
+
+        @Label("Actor Count")
+        @Description("actors in the world once the room is built")
+        public int actorCount;
+    }
+
+    @Name("roomescape.SpawnWave")
+    @Label("Spawn Wave")
+    @Category("Room Escape")
+    public static class SpawnWave extends Event
+    {
+        @Label("Source")
+        @Description("room or summoner")
+        public String source;
+
+        @Label("Enemy Count")
+        public int enemyCount;
+    }
+
+    @Name("roomescape.Save")
+    @Label("Save")
+    @Category("Room Escape")
+    @Description("encoding a save on the calling thread, plus the write for full saves")
+    public static class Save extends Event
+    {
+        @Label("Kind")
+        @Description("save, autosave or journal")
+        public String kind;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("roomescape.AssetDecode")
+    @Label("Asset Decode")
+    @Category("Room Escape")
+    public static class AssetDecode extends Event
+    {
+        @Label("Path")
+        public String path;
+
+        @Label("Width")
+        public int width;
+
+        @Label("Height")
+        public int height;
+    }
+}
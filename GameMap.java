@@ -61,6 +61,15 @@ public class GameMap
     //tile data per room
     private RoomData[][] rooms;
 
+    //visited/cleared changed since the last save
+    private boolean stateDirty=false;
+
+    //rooms whose visited/cleared changed since the minimap last asked
+    //changedRooms holds r * cols + c, changedFlag stops duplicates
+    private int[] changedRooms;
+    private int changedCount=0;
+    private boolean[][] changedFlag;
+
     public GameMap() 
     {
         //initialize to false default value
@@ -69,6 +78,9 @@ public class GameMap
 
         rooms=new RoomData[grid.length][grid[0].length];
         initRooms();
+
+        changedRooms=new int[grid.length * grid[0].length];
+        changedFlag=new boolean[grid.length][grid[0].length];
     }
 
     /**
@@ -336,7 +348,11 @@ public class GameMap
      * @param c room column
      */
     public void setVisited(int r, int c) {
-        visited[r][c]=true;
+        if (!visited[r][c]) {
+            visited[r][c]=true;
+            stateDirty=true;
+            roomStateChanged(r, c);
+        }
     }
     /**
      * check to see if room r c was visited
@@ -367,6 +383,8 @@ public class GameMap
     {
         if (!cleared[r][c]) {
             cleared[r][c]=true;
+            stateDirty=true;
+            roomStateChanged(r, c);
             return true;
         }
         return false;
@@ -541,6 +559,7 @@ public class GameMap
                 if (row.charAt(c) == '1')
                 {
                     visited[r][c] = true;
+                    roomStateChanged(r, c);
                 }
             }
     
@@ -572,6 +591,7 @@ public class GameMap
                 if (row.charAt(c) == '1')
                 {
                     cleared[r][c] = true;
+                    roomStateChanged(r, c);
                     //visited[r][c] = true;
                 }
             }
@@ -579,6 +599,55 @@ public class GameMap
             r++;
         }
     }
+    /**
+     * Remembers that room r, c should be redrawn on the minimap.
+     */
+    private void roomStateChanged(int r, int c)
+    {
+        if (changedFlag[r][c]) return;
+
+        changedFlag[r][c]=true;
+        changedRooms[changedCount++]=r * getCols() + c;
+    }
+    /**
+     * Takes one room off the changed list.
+     *
+     * @return r * getCols() + c of a room whose visited/cleared changed,
+     *         or -1 if nothing changed
+     */
+    public int pollChangedRoom()
+    {
+        if (changedCount == 0) return -1;
+
+        int cell=changedRooms[--changedCount];
+        changedFlag[cell / getCols()][cell % getCols()]=false;
+        return cell;
+    }
+    /**
+     * @return true if visited/cleared changed since the last save
+     */
+    public boolean isStateDirty()
+    {
+        return stateDirty;
+    }
+    /**
+     * Called once the changes are saved,
+     * clears the visited/cleared flag and every room's dirty tiles.
+     */
+    public void clearDirty()
+    {
+        stateDirty=false;
+        for (int r=0; r < getRows(); r++)
+        {
+            for (int c=0; c < getCols(); c++)
+            {
+                if (rooms[r][c] != null)
+                {
+                    rooms[r][c].clearDirty();
+                }
+            }
+        }
+    }
     /**
      * Count the number of room existis for room type type
      */
@@ -0,0 +1,131 @@
+import java.util.Random;
+
+/**
+ * GameRandom is the random number service of one game session.
+ *
+ * - one seed per session, kept in GameData and the save file,
+ *   so the same seed plays out the same run
+ * - each subsystem draws from its own stream (spawning, AI, loot),
+ *   so e.g. an extra wander step does not change what the shop rolls
+ * - a GameRandom object has no shared state,
+ *   so many simulations can each use their own
+ *
+ * The game itself uses the session one through the static helpers,
+ * e.g. GameRandom.spawn(3) instead of Greenfoot.getRandomNumber(3).
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class GameRandom
+{
+    //streams
+    public static final int SPAWN=0;
+    public static final int AI=1;
+    public static final int LOOT=2;
+    private static final int STREAM_COUNT=3;
+
+    //current session
+    private static GameRandom session=new GameRandom(newSeed());
+
+    private final long seed;
+    private final Random[] streams=new Random[STREAM_COUNT];
+
+    /**
+     * @param seed: session seed, every stream is derived from it
+     */
+    public GameRandom(long seed)
+    {
+        this.seed=seed;
+        for (int i=0; i < STREAM_COUNT; i++)
+        {
+            streams[i]=new Random(mix(seed + (i + 1) * 0x9E3779B97F4A7C15L));
+        }
+    }
+
+    /**
+     * Same as Greenfoot.getRandomNumber(limit) on one stream.
+     *
+     * @param stream:   SPAWN, AI or LOOT
+     * @param limit:    upper bound (exclusive)
+     * @return 0 to limit-1, or 0 if limit is not positive
+     */
+    public int next(int stream, int limit)
+    {
+        if (limit <= 0)
+        {
+            return 0;
+        }
+        return streams[stream].nextInt(limit);
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    /**
+     * Starts a new session with the given seed.
+     * Called by GameWorld when a game starts or is resumed.
+     */
+    public static void startSession(long seed)
+    {
+        session=new GameRandom(seed);
+    }
+
+    /**
+     * @return the seed of the current session
+     */
+    public static long sessionSeed()
+    {
+        return session.seed;
+    }
+
+    /**
+     * @return a fresh seed for a new game, never 0 (0 means "no seed yet" in GameData)
+     */
+    public static long newSeed()
+    {
+        long s=mix(System.nanoTime());
+        return (s == 0) ? 1 : s;
+    }
+
+    //enemy counts, spawn points, which enemy type
+    public static int spawn(int limit)
+    {
+        return session.next(SPAWN, limit);
+    }
+
+    //wandering, attack timing
+    public static int ai(int limit)
+    {
+        return session.next(AI, limit);
+    }
+
+    //shop artifacts
+    public static int loot(int limit)
+    {
+        return session.next(LOOT, limit);
+    }
+
+    /**
+     * @return a Random for one actor's AI, seeded from the AI stream
+     *
+     * Each actor then draws from its own Random, so actors deciding
+     * on several threads in any order still play out the same.
+     * Call on the game thread when the actor is made.
+     */
+    public static Random forActor()
+    {
+        return new Random(mix(session.streams[AI].nextLong()));
+    }
+
+    /**
+     * splitmix64 finaliser, spreads close seeds far apart
+     */
+    private static long mix(long z)
+    {
+        z=(z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z=(z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,5 +1,6 @@
 import greenfoot.*;
 import java.util.*;
+import java.nio.ByteBuffer;
 
 /**
  * GameWorld is a room-to-room battle game.
@@ -12,7 +13,7 @@ public class GameWorld extends World
 
     //game pausle related variables
     private static boolean paused=false; //pause state
-    private boolean lastEsc=false; //ESC just-pressed detection
+    private ProfilerOverlay profilerOverlay=null; //shown while FrameProfiler is on
     private PauseOverlay pauseUI; //pause overlay actor
 
     //RoomMap stores all data related to a room
@@ -23,10 +24,34 @@ public class GameWorld extends World
     private DoorSystem doorSystem;
     private SpawnerSystem spawner;
     
+    //solid tiles and blockers of the current room for movement
+    private CollisionGrid collision;
+
+    //tile distances to the player for chasing enemies
+    private FlowField flowField;
+
+    //enemies and players by cell, for actor-vs-actor queries
+    private SpatialHash spatial;
+    private EnemySystem enemies;
+    private TimerWheel timers=new TimerWheel();
+
+    //which actors belong to the room, reuses walls/doors between rooms
+    private RoomActors roomActors;
+    
     //handling game play prompts for user input
     private PromptManager promptManager;
     private TextLabel gameMessage;
-    private int messageTimer=0;
+    //hides gameMessage when its time is up
+    private TimerWheel.Timer messageTimer=new TimerWheel.Timer(new Runnable()
+    {
+        public void run()
+        {
+            if (gameMessage != null)
+            {
+                gameMessage.setVisible(false);
+            }
+        }
+    });
     
     //(1,1), starting room
     private int roomR=1;
@@ -55,21 +80,19 @@ public class GameWorld extends World
     public static int numOfStoneUpgrade=0;
     public static int numOfStoneUsed=0;
 
-    //combat timer
-    private boolean combatTimerActive = false;
-    private int combatTimerFrames = 0;
-
-    //trap room related variables/constants
-    private boolean trapActive = false;
-    private int trapTimerFrames = 0;
-    private boolean trapPenaltyDone = false;
-    
-    //dodge room related variables/constants
-    private boolean dodgeActive = false;
-    private int dodgeTimerFrames = 0;
+    //combat/trap/dodge room timers, plain state without greenfoot
+    private RoomRules rules;
  
     
     private GameData data;   //this data is passed around between world and is used to save to file when needed
+
+    //input log: recorder while playing, replay while playing one back (never both)
+    private InputLog.Recorder recorder=null;
+    private InputLog.Replay replay=null;
+    private boolean replayOver=false; //defeat, victory or quit reached in a replay
+
+    //set on defeat or victory, the save is gone and must stay gone
+    private boolean gameOver=false;
     
     
     //Shop/artifact data
@@ -93,8 +116,7 @@ public class GameWorld extends World
     private boolean shopArtifact2Sold = false;
     private boolean shopHealSold = false;
     
-    private boolean lastR = false; //this is for reroll detection
-    private boolean lastE = false;
+    private int autosaveTimer = 0; //frames since the last autosave
     
     public GameWorld()
     {
@@ -107,9 +129,30 @@ public class GameWorld extends World
      * loads the starting room.
      */
     public GameWorld(int warriorType,boolean resume, GameData data)
+    {
+        this(warriorType, resume, data, null);
+    }
+    /**
+     * Plays a recorded session back, keys come from the log
+     * instead of the keyboard and nothing is saved.
+     * See ReplayRunner for running it headless.
+     */
+    public GameWorld(InputLog.Replay replay)
+    {
+        this(replay.getWarriorType(), replay.isResumed(), null, replay);
+    }
+    private GameWorld(int warriorType,boolean resume, GameData data, InputLog.Replay replay)
     {
         super(GameConfig.WORLD_W, GameConfig.WORLD_H, 1);
         
+        this.replay=replay;
+        if (replay != null)
+        {
+            paused=false;
+        }
+        //keys held from the last world are not carried over
+        InputFrame.clear();
+        
         theArtifacts();
         
         //if there's already an existing savedata
@@ -122,7 +165,13 @@ public class GameWorld extends World
             this.data=new GameData();
         }
         map=new GameMap();
+        rules=new RoomRules(map);
+        collision=new CollisionGrid();
+        flowField=new FlowField();
+        spatial=new SpatialHash();
+        enemies=new EnemySystem(this);
 
+        roomActors=new RoomActors(this);
         renderer=new RoomRenderer(this, map);
         doorSystem=new DoorSystem(this, map);
         spawner=new SpawnerSystem(this, map);
@@ -174,16 +223,21 @@ public class GameWorld extends World
         {
             clearSessionData();  //clear static variables   
         }
+        //save the session started from, kept with the input log
+        ByteBuffer startState=null;
+
         //whatever data saved
         //must also update this section
         if (resume)
         {
-            GameData loadedData=SaveManager.load(map);
+            //a replay starts from the save recorded with it
+            GameData loadedData=(replay != null) ? replay.loadStartState(map) : SaveManager.load(map);
             
             if(loadedData!=null)
             {
                  data=loadedData;
             }
+            startState=SaveFormat.encode(data, map);
  
             if (data != null && map.hasRoom(data.roomR, data.roomC))
             {
@@ -224,6 +278,32 @@ public class GameWorld extends World
             //by RoomData and GameMap classes
         }
 
+        //random numbers for this run
+        //new game=new seed, resume=keep the saved one (old saves have none)
+        //replay=the recorded one
+        if (replay != null)
+        {
+            this.data.seed=replay.getSeed();
+        }
+        else if (!resume || this.data.seed == 0)
+        {
+            this.data.seed=GameRandom.newSeed();
+        }
+        GameRandom.startSession(this.data.seed);
+
+        if (replay == null)
+        {
+            //save.dat may be from another run, first autosave writes it in full
+            AutoSaver.needFullSave();
+
+            //seed, warrior and the starting save first, then every frame's keys
+            if (GameConfig.RECORD_INPUT)
+            {
+                recorder=InputLog.startRecording(GameConfig.INPUT_LOG_FILE, GameConfig.INPUT_LOG_PREV_FILE,
+                                                 this.data.seed, warriorType, startState);
+            }
+        }
+
         //prompt manager for handling prompts during game play
         promptManager = new PromptManager();
         addObject(promptManager, GameConfig.sidePanelCentreX(), GameConfig.sidePanelCentreY());
@@ -234,6 +314,17 @@ public class GameWorld extends World
         gameMessage=new  TextLabel("", 22, Color.YELLOW,-1); 
         addObject(gameMessage, GameConfig.sidePanelCentreX(), GameConfig.sidePanelCentreY()-50);
         
+        //never removed by loadRoom
+        roomActors.keep(minimap);
+        roomActors.keep(player);
+        roomActors.keep(playerBar);
+        roomActors.keep(promptManager);
+        roomActors.keep(gameMessage);
+        if (FrameProfiler.isEnabled())
+        {
+            showProfiler(true);
+        }
+
         //start in center only at the beginning
         loadRoom(roomR, roomC, 0, 0); 
         
@@ -290,6 +381,12 @@ public class GameWorld extends World
      */
     private void exitToSetup()
     {  
+        if (replay != null)
+        {
+            replayOver=true;
+            return;
+        }
+        InputLog.stopRecording();
         saveToFile();
         
         paused=false;
@@ -308,6 +405,13 @@ public class GameWorld extends World
     }
     public void onPlayerDefeated()
     {
+        if (replay != null)
+        {
+            replayOver=true;
+            return;
+        }
+        InputLog.stopRecording();
+        gameOver=true;
         save();
         //start from new game only
         SaveManager.deleteSave();
@@ -316,6 +420,13 @@ public class GameWorld extends World
     }
     public void onPlayerVictory()
     {
+        if (replay != null)
+        {
+            replayOver=true;
+            return;
+        }
+        InputLog.stopRecording();
+        gameOver=true;
         save();
         //start from new game only
         SaveManager.deleteSave();
@@ -353,8 +464,24 @@ public class GameWorld extends World
         }
  
     }
+    /**
+     * Saves in the background, the game does not wait for the disk.
+     * Used on room clear, shop purchase and every AUTOSAVE_FRAMES.
+     */
+    private void autosave()
+    {
+        //a replay never touches the player's save,
+        //and nothing later in a defeat/victory frame brings it back
+        if (replay != null || gameOver) return;
+
+        save();
+        AutoSaver.submit(data, map);
+        autosaveTimer=0;
+    }
     private void saveToFile()
     {
+        if (replay != null || gameOver) return;
+
         save();
         
         //roomCleared,roomVisited,roomData handled by
@@ -368,31 +495,69 @@ public class GameWorld extends World
      */
      public void act() 
      {         
+        //closes the last frame's timings, no-op while the profiler is off
+        FrameProfiler.frame();
+
+        //this frame's keys, read by everything that acts this frame
+        //(from the log when replaying, recorded when playing)
+        if (replay != null)
+        {
+            InputFrame.set(replay.next());
+        }
+        else
+        {
+            InputFrame.sample();
+            if (recorder != null)
+            {
+                recorder.record(InputFrame.downBits());
+            }
+        }
+
         //keep track how long the player stays in game world
         playerTimeFrames++;
         
-        //esc=just pressed
-        boolean esc=Greenfoot.isKeyDown("escape");
-        boolean escJustPressed=esc && !lastEsc;
-        lastEsc=esc;
-    
-        if (escJustPressed)
+        if (InputFrame.justPressed(InputFrame.ESCAPE))
         {
               pauseSwtich();
         }
+
+        //f3=toggle frame profiler overlay
+        if (InputFrame.justPressed(InputFrame.F3))
+        {
+            showProfiler(!FrameProfiler.isEnabled());
+        }
     
         if (paused)
         {
-            if (Greenfoot.isKeyDown("q"))
+            if (InputFrame.isDown(InputFrame.Q))
             {
                 exitToSetup();
             }
-            if (Greenfoot.isKeyDown("s"))
+            if (InputFrame.isDown(InputFrame.S))
             {
                 //saveAndLeave();   //<<<<<<<may open this feature later
             }
             return;
         }
+
+        //one frame on the game clock, due timers run now
+        //(not reached while paused, so every timer stops with it)
+        long tickT=FrameProfiler.begin();
+        timers.tick();
+        FrameProfiler.end(FrameProfiler.TIMERS, tickT);
+
+        //index enemies/players before any actor acts this frame
+        spatial.rebuild(this);
+
+        //every enemy's frame, in one go
+        enemies.update();
+
+        //timed autosave, not while paused
+        autosaveTimer++;
+        if (autosaveTimer >= GameConfig.AUTOSAVE_FRAMES)
+        {
+            autosave();
+        }
         
         //only combat/bossrooms needs enemy count to clear
         if ( (map.isCombatRoom(roomR, roomC) || map.isBossRoom(roomR, roomC) ) && 
@@ -402,10 +567,12 @@ public class GameWorld extends World
             if (map.markCleared(roomR, roomC))
             {
                 roomsClearedCount++;
+                autosave();
             }
         }
         
         //HUD text in side panel;
+        long hudT=FrameProfiler.begin();
         int hudX=GameConfig.ROOM_X + GameConfig.ROOM_W + GameConfig.SIDE_PANEL_W / 2;
         showText("Room: (" + roomR + "," + roomC + ")", hudX, 30);
         showText("Enemies: " + countEnemies(), hudX, 55);
@@ -420,6 +587,7 @@ public class GameWorld extends World
         showText(": " + player.getScore(), hudX-60, 595);
         showText(": " +playerTimeFrames/60+ " Seconds", hudX-10, 630);
         showText("" + player.getHealth(), hudX+115, 655);
+        FrameProfiler.end(FrameProfiler.HUD, hudT);
         
         
         //for shop items
@@ -429,16 +597,12 @@ public class GameWorld extends World
             showText("", GameConfig.sidePanelCentreX(),  GameConfig.sidePanelCentreY() -125);
         }
         if(map.getRoomType(roomR , roomC) == 'S'){
-            if(Greenfoot.isKeyDown("e") && !lastE){
+            if(InputFrame.justPressed(InputFrame.E)){
                 buyClosestShopItem();
             }
-            lastE = Greenfoot.isKeyDown("e");
-        }else{
-            lastE = false;
         }
         if(map.getRoomType(roomR, roomC) == 'S'){ //this is to find the shop room
-            boolean rKey = Greenfoot.isKeyDown("r");
-            if(rKey&& !lastR){
+            if(InputFrame.justPressed(InputFrame.R)){
                 if(player.getCoinCount()<2)
                 {
                     showMessage("Not enough coins to reroll.",80);
@@ -450,36 +614,22 @@ public class GameWorld extends World
                 }
                 
             }
-            lastR = rKey;
-        }else{
-            lastR = false;
         }
         
         
-        //track for gameMessage
-        if (messageTimer>=0)
-        {
-            messageTimer--;
-        
-            if (messageTimer == 0 && gameMessage != null)
-            {
-                gameMessage.setVisible(false);
-            }
-        }
-        
         //win check
         //show in the window of the room
         if(roomsClearedCount>=totalRoomsToClear)
         {
             onPlayerVictory();
-            Greenfoot.setWorld(new VictoryWorld(data)); 
+            return;
         }
 
         //rooms with time sensitive
         //needs to be updated
-        updateCombatTimer();
-        updateTrapRoom();
-        updateDodgeRoom();
+        long rulesT=FrameProfiler.begin();
+        updateRoomRules();
+        FrameProfiler.end(FrameProfiler.TIMERS, rulesT);
         
         
         //isRoomUnloced
@@ -488,10 +638,12 @@ public class GameWorld extends World
         boolean unlockedNow=isRoomUnlocked();
 
         //unlock all doors if cleared, otherwise only the back door
+        long doorsT=FrameProfiler.begin();
         doorSystem.updateDoorStates(roomR, roomC, lastRoomR, lastRoomC, unlockedNow);
 
         //block door gaps while locked, but not the back door gap
         doorSystem.syncDoorBlockers(roomR, roomC, lastRoomR, lastRoomC, unlockedNow);
+        FrameProfiler.end(FrameProfiler.DOORS, doorsT);
         
         
     }  
@@ -543,20 +695,17 @@ public class GameWorld extends World
      */
     private void loadRoom(int r, int c, int enterDr, int enterDc)
     {
-        //remove everything except player, minimap, player status baar, prompt manager
-        ArrayList<Actor> all=new ArrayList<Actor>(getObjects(Actor.class));
-        for (Actor a : all) 
-        {
-             if (a != player && 
-                 a != minimap && 
-                 a != playerBar && 
-                 a != promptManager && 
-                 a != gameMessage && 
-                 !(a instanceof ImageIcon))
-             {
-                removeObject(a);   
-             }
-        }
+        long loadT=FrameProfiler.begin();
+        GameEvents.RoomLoad loadEvent=new GameEvents.RoomLoad();
+        loadEvent.begin();
+
+        //positions worked out from the tiles,
+        //usually already prepared while the player was next door
+        RoomPlan plan=RoomPrefetcher.take(map, r, c);
+
+        //remove the old room's actors except player, minimap, player status baar, prompt manager
+        //walls/doors the new room also has are kept for it
+        roomActors.beginRoom(plan);
         
         if(map.getRoomType(r, c) == 'S'){//adds shop items - cartis
             spawnShopItems();
@@ -573,9 +722,15 @@ public class GameWorld extends World
         //set visited of 
         //the current room to true
         map.setVisited(r, c);
+        minimap.setCurrentRoom(r, c);
+
+        //solid tiles for movement,
+        //must come before doors/blockers are added
+        collision.loadRoom(plan);
+        flowField.loadRoom(map.getRoomData(r, c));
 
         //Background + walls + doors
-        renderer.buildRoom(r, c);
+        renderer.buildRoom(r, c, plan);
 
         //add object using map e.g. statue 
         //moved to renderer to buildobject from tiles
@@ -595,6 +750,7 @@ public class GameWorld extends World
         startDodgeIfNeeded(r, c);
 
         //Spawn enemies only if room not cleared
+        long spawnT=FrameProfiler.begin();
         spawner.spawnEnemiesIfNeeded(r, c, player);
         //must come after spawning enemies
         //so that the allowed time can be allocated properly
@@ -602,11 +758,50 @@ public class GameWorld extends World
 
         //Spawn hazard enemy only if room not cleared and is dodge room
         spawner.spawnHazardsIfNeeded(r, c, player);
+        FrameProfiler.end(FrameProfiler.SPAWNER, spawnT);
         
         //blocker rebuild
         boolean unlocked=isRoomUnlocked();
         doorSystem.updateDoorStates(roomR, roomC, lastRoomR, lastRoomC, unlocked);
         doorSystem.syncDoorBlockers(roomR, roomC, lastRoomR, lastRoomC, unlocked);
+
+        //new room, new enemies
+        spatial.rebuild(this);
+
+        //get the rooms next door ready in the background
+        RoomPrefetcher.prefetchNeighbours(map, r, c, getWidth(), getHeight());
+
+        FrameProfiler.end(FrameProfiler.ROOM_LOAD, loadT);
+        if (loadEvent.shouldCommit())
+        {
+            loadEvent.row=r;
+            loadEvent.col=c;
+            loadEvent.roomType=String.valueOf(map.getRoomType(r, c));
+            loadEvent.actorCount=numberOfObjects();
+            loadEvent.commit();
+        }
+    }
+
+    /**
+     * turns the frame profiler and its overlay on/off
+     */
+    private void showProfiler(boolean on)
+    {
+        FrameProfiler.setEnabled(on);
+        if (profilerOverlay == null)
+        {
+            profilerOverlay=new ProfilerOverlay();
+            roomActors.keep(profilerOverlay);
+        }
+
+        if (on && profilerOverlay.getWorld() == null)
+        {
+            addObject(profilerOverlay, GameConfig.sidePanelCentreX(), 250);
+        }
+        else if (!on && profilerOverlay.getWorld() != null)
+        {
+            removeObject(profilerOverlay);
+        }
     }
 
     /**
@@ -701,13 +896,12 @@ public class GameWorld extends World
         boolean goingBack=(nr==lastRoomR && nc==lastRoomC);
 
         //trap room escape logic in tryMove
-        if(trapActive && trapTimerFrames>=0 && ! goingBack)
+        if(!goingBack && rules.trapEscaped())
         {
             map.markCleared(roomR,roomC);
             roomsClearedCount++;
-            trapActive=false;
-            trapTimerFrames=0;
             player.addScore(GameConfig.TRAP_REWARD_SCORE);  //increase score
+            autosave();
             SoundManager.playRewardSound(); //audio feedback
             showMessage("Rewarded Score(+"+GameConfig.TRAP_REWARD_SCORE+")",120);
         }
@@ -867,6 +1061,57 @@ public class GameWorld extends World
     {
         return map;
     }
+    /**
+     * Allows walking actors to resolve movement against the current room.
+     */
+    public CollisionGrid getCollisionGrid()
+    {
+        return collision;
+    }
+    /**
+     * Lets RoomRenderer reuse the walls/doors of the last room.
+     */
+    public RoomActors getRoomActors()
+    {
+        return roomActors;
+    }
+    /**
+     * Allows chasing enemies to path around walls toward the player.
+     */
+    public FlowField getFlowField()
+    {
+        return flowField;
+    }
+    /**
+     * Frame clock and timers of this game, stopped while paused.
+     */
+    public TimerWheel getTimers()
+    {
+        return timers;
+    }
+    /**
+     * @return true once a replay has used up its log or reached
+     * defeat, victory or quit
+     */
+    public boolean isReplayOver()
+    {
+        return replay != null && (replayOver || !replay.hasNext());
+    }
+    /**
+     * Enemies take a slot here when added to the world.
+     */
+    public EnemySystem getEnemySystem()
+    {
+        return enemies;
+    }
+    /**
+     * Allows hitboxes, bullets and enemies to find each other
+     * without scanning every actor in the world.
+     */
+    public SpatialHash getSpatialHash()
+    {
+        return spatial;
+    }
     /**
      * Make sure game music starts after restarted
      */
@@ -899,76 +1144,11 @@ public class GameWorld extends World
      */
     private void startCombatTimerIfNeeded(int r, int c)
     {
-        combatTimerActive=false;
-        combatTimerFrames=0;
-    
-        //Only time normal combat rooms
-        if (!map.isCombatRoom(r, c))
-        {
-             return;   
-        }
-    
-        //If already cleared, no timer
-        if (map.isCleared(r, c))
-        {
-             return;   
-        }
-    
         //must be called after enemy is spawned
-        int enemyCount = countEnemies();
-    
-        //if somehow zero enemies, no timer needed
-        if (enemyCount <= 0)
+        boolean hasBoss=getObjects(SummonerBoss.class).size()>0;
+        if (rules.startCombatIfNeeded(r, c, countEnemies(), hasBoss))
         {
-             return;   
-        }
-    
-        //calculated allowed time
-        int frames = GameConfig.COMBAT_BASE_TIME + enemyCount * GameConfig.COMBAT_PER_ENEMY_TIME;
-        if (frames>GameConfig.COMBAT_MAX_TIME)
-        {
-            frames=GameConfig.COMBAT_MAX_TIME;   
-        }
-    
-        //if it's a boos is spawned
-        if( getObjects(SummonerBoss.class).size()>0)
-        {
-            frames=GameConfig.COMBAT_BOSS_TIME;
-        }
-        
-        combatTimerActive = true;
-        combatTimerFrames = frames;
-    
-        showMessage("COMBAT ROOM!\nDefeat all enemies\n before time runs out!", 150);
-    
-    }
-    /**
-     * once in a combat room, combat timer starts
-     */
-    private void updateCombatTimer()
-    {
-        if (!combatTimerActive)
-        {
-            return;   
-        }
-    
-        //if room got cleared, stop the timer
-        if (countEnemies() == 0)
-        {
-            combatTimerActive = false;
-            combatTimerFrames = 0;
-            return;
-        }
-    
-        showMessage("Combat Time Remain: "+ (combatTimerFrames/60)+"",60);
-        combatTimerFrames--;
-    
-        //time up,instant defeat
-        if (combatTimerFrames <= 0)
-        {
-            combatTimerActive = false;
-            combatTimerFrames = 0;
-            onPlayerDefeated();
+            showMessage("COMBAT ROOM!\nDefeat all enemies\n before time runs out!", 150);
         }
     }
     /**
@@ -979,57 +1159,16 @@ public class GameWorld extends World
      */
     private void startTrapIfNeeded(int r, int c)
     {
-        trapActive = false;
-        trapPenaltyDone = false;
-        trapTimerFrames = 0;
-        
-        //if it's a trap room is not cleared, start trap room game
         //if it's penalied or reward
-        //then this room is markCleared in tryMove
+        //then this room is markCleared
         //second time here, it won't trigger
-        if (map.isTrapRoom(r, c) && !map.isCleared(r, c))
+        if (rules.startTrapIfNeeded(r, c))
         {
-            trapActive = true;
-            trapTimerFrames = GameConfig.TRAP_TIME_FRAMES;
- 
             showMessage("Rush!\n You must leave the room \n from the other sie in\n"
                         +(GameConfig.TRAP_TIME_FRAMES/60)+" s!\n"
                         +"Success->Score (+"+GameConfig.TRAP_REWARD_SCORE+")\n"+
                         "Failure->HP(-"+GameConfig.TRAP_PENALTY_HP +")", 
                         180);
-
-        }
-    }
-    private void updateTrapRoom()
-    {
-        if (!trapActive) return;
-    
-        trapTimerFrames--;
-    
-        //dispaly time to escape count down
-        if (trapTimerFrames < GameConfig.TRAP_TIME_FRAMES - 200 && trapTimerFrames>0)
-        {
-            showMessage("Rush Timer: " + (trapTimerFrames / 60), 60);
-        }
-    
-        //failed to escape in time
-        //penalty applied
-        //the reward part is dealt in tryMove
-        //as the actor will leave the room w/o actually touching the door
-        //leaving touching door and room leaving to tryMove
-        if (trapTimerFrames <= 0 && !trapPenaltyDone)
-        {
-            trapPenaltyDone = true;
-            trapTimerFrames=0;
-            player.takeDamage(GameConfig.TRAP_PENALTY_HP);
-            
-            //trap room only play once
-            //regardless if passed or not
-            map.markCleared(roomR,roomC);
-            roomsClearedCount++;
-
-            SoundManager.playFailSound();
-            showMessage("Too slow! -" + GameConfig.TRAP_PENALTY_HP + " HP", 120);
         }
     }
     /**
@@ -1037,61 +1176,73 @@ public class GameWorld extends World
      */
     private void startDodgeIfNeeded(int r, int c)
     {
-        dodgeActive = false;
-        dodgeTimerFrames = 0;
-    
-        // only start if this is a dodge room AND not cleared yet
-        if (map.getRoomType(r, c) == 'D' && !map.isCleared(r, c))
+        if (rules.startDodgeIfNeeded(r, c))
         {
-            dodgeActive = true;
-            dodgeTimerFrames=GameConfig.DODGE_TIME_FRAMES;
-    
             showMessage("DODGE ROOM!\nDon't touch hazards \n for 10 seconds!", 150);
         }
     }
     /**
-     * update dogge room play
+     * advance the room timers by one frame
+     * and show/apply whatever happened
      */
-    private void updateDodgeRoom()
+    private void updateRoomRules()
     {
-        if (!dodgeActive)
+        int events=rules.step(countEnemies());
+
+        //count downs
+        if (rules.isCombatActive())
         {
-            return;
+            showMessage("Combat Time Remain: "+ (rules.getCombatFrames()/60)+"",60);
         }
-    
-        //countdown
-        dodgeTimerFrames--;
-    
-        //show timer (don’t spam every frame, just show after the intro)
-        if (dodgeTimerFrames<GameConfig.DODGE_TIME_FRAMES - 180)
+        if (rules.isTrapActive() && rules.getTrapFrames() < GameConfig.TRAP_TIME_FRAMES - 200 && rules.getTrapFrames()>0)
         {
-            showMessage("Dodge Timer: " + (dodgeTimerFrames / 60), 60);
+            showMessage("Rush Timer: " + (rules.getTrapFrames() / 60), 60);
         }
-    
-        //success
-        if (dodgeTimerFrames <= 0)
+        if (rules.isDodgeActive() && rules.getDodgeFrames()<GameConfig.DODGE_TIME_FRAMES - 180)
         {
-            dodgeActive = false;
-            dodgeTimerFrames = 0;
-    
-            if (!map.isCleared(roomR, roomC))
+            showMessage("Dodge Timer: " + (rules.getDodgeFrames() / 60), 60);
+        }
+
+        //time up,instant defeat
+        if ((events & RoomRules.COMBAT_TIME_UP) != 0)
+        {
+            onPlayerDefeated();
+        }
+
+        //failed to escape in time
+        //the reward part is dealt in tryMove
+        if ((events & RoomRules.TRAP_FAILED) != 0)
+        {
+            player.takeDamage(GameConfig.TRAP_PENALTY_HP);
+            
+            //trap room only play once
+            //regardless if passed or not
+            map.markCleared(roomR,roomC);
+            roomsClearedCount++;
+            autosave();
+
+            SoundManager.playFailSound();
+            showMessage("Too slow! -" + GameConfig.TRAP_PENALTY_HP + " HP", 120);
+        }
+
+        //survived the dodge room
+        if ((events & RoomRules.DODGE_SURVIVED) != 0)
+        {
+            map.markCleared(roomR, roomC);
+            roomsClearedCount++;
+
+            player.heal(GameConfig.DODGE_HEALTH_SCORE); 
+            SoundManager.playRewardSound(); //audio feedback
+            autosave();
+            
+            //remove all hazards so player sees it's finished
+            ArrayList<HazardEnemy> hazards =(ArrayList<HazardEnemy>) getObjects(HazardEnemy.class);
+            for (HazardEnemy h : hazards)
             {
-                map.markCleared(roomR, roomC);
-                roomsClearedCount++;
-    
-                player.heal(GameConfig.DODGE_HEALTH_SCORE); 
-                SoundManager.playRewardSound(); //audio feedback
-                
-                //remove Hazard Visually
-                //remove all hazards so player sees it's finished
-                ArrayList<HazardEnemy> hazards =(ArrayList<HazardEnemy>) getObjects(HazardEnemy.class);
-                for (HazardEnemy h : hazards)
-                {
-                    removeObject(h);
-                }
-                
-                showMessage("Success! +" + GameConfig.DODGE_HEALTH_SCORE + " health", 150);
+                removeObject(h);
             }
+            
+            showMessage("Success! +" + GameConfig.DODGE_HEALTH_SCORE + " health", 150);
         }
     }
     /**
@@ -1099,10 +1250,9 @@ public class GameWorld extends World
      */
     public void onDodgeRoomHit()
     {
-        if (!dodgeActive) return;
+        if (!rules.dodgeHit()) return;
         
         SoundManager.playOuchSound();
-        dodgeTimerFrames=GameConfig.DODGE_TIME_FRAMES;
         showMessage("Ouch! Timer reset!", 90);
     }
     /**
@@ -1123,15 +1273,15 @@ public class GameWorld extends World
         SoundManager.playMessageSound();
         gameMessage.setText(msg);     
         gameMessage.setVisible(true);
-        messageTimer = frames;
+        timers.schedule(messageTimer, frames);
     }
     private void spawnShopItems(){
         if(!shopGenerated){
-            shopArtifact1Name = Greenfoot.getRandomNumber(artifactName.length);
-            shopArtifact2Name = Greenfoot.getRandomNumber(artifactName.length);
+            shopArtifact1Name = GameRandom.loot(artifactName.length);
+            shopArtifact2Name = GameRandom.loot(artifactName.length);
         
             while(shopArtifact1Name == shopArtifact2Name){
-                shopArtifact2Name = Greenfoot.getRandomNumber(10);
+                shopArtifact2Name = GameRandom.loot(10);
             }
             
             shopArtifact1Sold = false;
@@ -1163,15 +1313,18 @@ public class GameWorld extends World
         public void markShopSold(int type, int artifactName){
         if(type == ShopItem.HEAL){
             shopHealSold = true;
-            return;
-        }
-        
-        if(artifactName == shopArtifact1Name){
-            shopArtifact1Sold = true;
         }
-        if(artifactName == shopArtifact2Name){
-            shopArtifact2Sold = true;
+        else{
+            if(artifactName == shopArtifact1Name){
+                shopArtifact1Sold = true;
+            }
+            if(artifactName == shopArtifact2Name){
+                shopArtifact2Sold = true;
+            }
         }
+
+        //coins were just spent, keep that with the item sold
+        autosave();
     }
     private void theArtifacts(){
         artifactName = new String[10];
@@ -0,0 +1,157 @@
+import greenfoot.*;
+import java.util.HashMap;
+
+/**
+ * GlyphAtlas is a bitmap font for one (font size, color).
+ * Every character is rendered by Greenfoot once, after that
+ * strings are put together by drawing the cached glyph images,
+ * so no font rendering happens while text is on screen.
+ *
+ * - one atlas per size + color, shared by every text actor
+ * - glyph images are shared, do not draw on them
+ * - "\n" starts a new line, like new GreenfootImage(text, size, color, bg)
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class GlyphAtlas
+{
+    private static final Color CLEAR=new Color(0, 0, 0, 0);
+
+    //atlases by size + color
+    private static HashMap<String, GlyphAtlas> atlases=new HashMap<String, GlyphAtlas>();
+
+    private int size;
+    private Color color;
+
+    //printable ascii by char code, anything else in the map
+    private GreenfootImage[] ascii=new GreenfootImage[128];
+    private HashMap<Character, GreenfootImage> others=new HashMap<Character, GreenfootImage>();
+
+    private int lineHeight;
+
+    /**
+     * @return the shared atlas for this font size and color
+     */
+    public static GlyphAtlas get(int size, Color color)
+    {
+        String key=size + "|" + color.getRed() + "," + color.getGreen() + "," + color.getBlue() + "," + color.getAlpha();
+        GlyphAtlas atlas=atlases.get(key);
+        if (atlas == null)
+        {
+            atlas=new GlyphAtlas(size, color);
+            atlases.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    private GlyphAtlas(int size, Color color)
+    {
+        this.size=size;
+        this.color=color;
+        lineHeight=Math.max(1, glyph('A').getHeight());
+    }
+
+    /**
+     * @return the cached image of one character, rendered on first use
+     */
+    public GreenfootImage glyph(char ch)
+    {
+        if (ch < ascii.length)
+        {
+            if (ascii[ch] == null)
+            {
+                ascii[ch]=renderGlyph(ch);
+            }
+            return ascii[ch];
+        }
+
+        GreenfootImage img=others.get(ch);
+        if (img == null)
+        {
+            img=renderGlyph(ch);
+            others.put(ch, img);
+        }
+        return img;
+    }
+
+    public int getLineHeight()
+    {
+        return lineHeight;
+    }
+
+    /**
+     * @return width of the widest line of text in pixels
+     */
+    public int width(String text)
+    {
+        int widest=0;
+        int w=0;
+        for (int i=0; i < text.length(); i++)
+        {
+            char ch=text.charAt(i);
+            if (ch == '\n')
+            {
+                widest=Math.max(widest, w);
+                w=0;
+            }
+            else
+            {
+                w += glyph(ch).getWidth();
+            }
+        }
+        return Math.max(widest, w);
+    }
+
+    /**
+     * Text on a transparent image, put together from cached glyphs.
+     * Each glyph keeps its own width and line height, so spacing can be
+     * a pixel or so off from new GreenfootImage(text, size, color, bg).
+     */
+    public GreenfootImage render(String text)
+    {
+        if (text == null)
+        {
+            text="";
+        }
+
+        int lines=1;
+        for (int i=0; i < text.length(); i++)
+        {
+            if (text.charAt(i) == '\n') lines++;
+        }
+
+        GreenfootImage img=new GreenfootImage(Math.max(1, width(text)), lines * lineHeight);
+        drawString(img, text, 0, 0);
+        return img;
+    }
+
+    /**
+     * Draws text onto img with its top-left corner at x, y.
+     *
+     * @return x after the last character of the last line
+     */
+    public int drawString(GreenfootImage img, String text, int x, int y)
+    {
+        int cx=x;
+        for (int i=0; i < text.length(); i++)
+        {
+            char ch=text.charAt(i);
+            if (ch == '\n')
+            {
+                cx=x;
+                y += lineHeight;
+                continue;
+            }
+            GreenfootImage g=glyph(ch);
+            img.drawImage(g, cx, y);
+            cx += g.getWidth();
+        }
+        return cx;
+    }
+
+    private GreenfootImage renderGlyph(char ch)
+    {
+        return new GreenfootImage("" + ch, size, color, CLEAR);
+    }
+}
@@ -16,7 +16,7 @@ public class HazardEnemy extends Enemy
     private WanderAround wander = new WanderAround(20, 60);
 
     //hit cooldown so it doesn't reset timer every single frame
-    private int touchCooldown = 0;
+    private long touchReadyAt = 0;   //now() frame the next touch counts
     private int touchCooldownMax = 30; 
 
     public HazardEnemy(Player target)
@@ -44,9 +44,19 @@ public class HazardEnemy extends Enemy
      * Hazard wandering movement.
      * uses wander logic
      */
-    protected int[] computeMove()
+    protected void computeMove()
     {
-        return wander.nextMove(speed);
+        wander.nextMove(speed);
+        setMove(wander.getDx(), wander.getDy());
+    }
+
+    /**
+     * The touch cooldown waits while frozen too.
+     */
+    protected void shiftCooldowns(long frames)
+    {
+        super.shiftCooldowns(frames);
+        touchReadyAt = shifted(touchReadyAt, now(), frames);
     }
 
     /**
@@ -56,14 +66,9 @@ public class HazardEnemy extends Enemy
      */
     protected void handlePlayerContact()
     {
-        if (touchCooldown > 0)
-        {
-            touchCooldown--;   
-        }
-
-        if (touchCooldown == 0 && isTouching(Player.class))
+        if (now() >= touchReadyAt && touchingPlayer())
         {
-            touchCooldown = touchCooldownMax;
+            touchReadyAt = now() + touchCooldownMax;
             World w = getWorld();
             if (w instanceof GameWorld)
             {
@@ -77,7 +82,9 @@ public class HazardEnemy extends Enemy
      */
     protected void addedToWorld(World world)
     {
-        //do nothing on purpose (don't call super)
+        //no HP bar on purpose (don't call super),
+        //but still updated with the other enemies
+        joinEnemySystem(world);
     }
 
     /**
@@ -1,4 +1,5 @@
 import greenfoot.*;
+import java.util.HashMap;
 
 /**
  * HealthBar draws a health bar for any HasHealth actor
@@ -17,6 +18,15 @@ public class HealthBar extends Actor
     private int barH;
     private int yOffset;
 
+    //hp and max of the last draw
+    private boolean drawn = false;
+    private int drawnHp;
+    private int drawnMax;
+
+    //pre-rendered frames and fill strips
+    //a few bar sizes x 3 colors x inner widths, so it stays small
+    private static HashMap<String, GreenfootImage> strips = new HashMap<String, GreenfootImage>();
+
     /**
      * @param unit         actor that has health
      * @param follow       actor to follow
@@ -41,6 +51,15 @@ public class HealthBar extends Actor
      * following actor and updage images
      */    
     public void act()
+    {
+        long t=FrameProfiler.begin();
+        followAndRedraw();
+        FrameProfiler.end(FrameProfiler.HUD, t);
+    }
+    /**
+     * One frame of the bar, act() times it for the profiler.
+     */
+    private void followAndRedraw()
     {
         if (getWorld() == null) return;
 
@@ -59,29 +78,29 @@ public class HealthBar extends Actor
     }
 
     //redraw based on unit HP ratio
+    //only when hp or max changed since the last draw
     private void updateImage()
     {
-        GreenfootImage img = getImage();
-        img.clear();
-
-        //background and border
-        img.setColor(Color.DARK_GRAY);
-        img.fillRect(0, 0, barW, barH);
-
-        img.setColor(Color.WHITE);
-        img.drawRect(0, 0, barW - 1, barH - 1);
+        int hp = (unit == null) ? 0 : unit.getHealth();
+        int max = (unit == null) ? 0 : unit.getMaxHealth();
+        //System.out.println("hp:="+hp);
+        //System.out.println("max:="+max);
 
-        if (unit == null)
+        if (drawn && hp == drawnHp && max == drawnMax)
         {
             return;
         }
+        drawn = true;
+        drawnHp = hp;
+        drawnMax = max;
 
-        int hp = unit.getHealth();
-        int max = unit.getMaxHealth();
-        //System.out.println("hp:="+hp);
-        //System.out.println("max:="+max);
-        
-        if (max <= 0) 
+        GreenfootImage img = getImage();
+
+        //background, border and black inner part in one go
+        //the frame is opaque so it covers the old fill
+        img.drawImage(frame(barW, barH), 0, 0);
+
+        if (unit == null || max <= 0)
         {
             return;
         }
@@ -119,13 +138,47 @@ public class HealthBar extends Actor
             fill = Color.RED;   
         }
 
-        //bar background  and fill
-        img.setColor(Color.BLACK);
-        img.fillRect(innerX, innerY, innerW, innerH);
+        if (fillW > 0 && innerH > 0)
+        {
+            img.drawImage(strip(fill, fillW, innerH), innerX, innerY);
+        }
+    }
+
+    //dark gray background, white border, black inner part
+    //one per bar size, shared by all bars
+    private static GreenfootImage frame(int w, int h)
+    {
+        String key = "frame|" + w + "x" + h;
+        GreenfootImage img = strips.get(key);
+        if (img == null)
+        {
+            img = new GreenfootImage(w, h);
+            img.setColor(Color.DARK_GRAY);
+            img.fillRect(0, 0, w, h);
+
+            img.setColor(Color.WHITE);
+            img.drawRect(0, 0, w - 1, h - 1);
+
+            img.setColor(Color.BLACK);
+            img.fillRect(3, 3, w - 6, h - 6);
+            strips.put(key, img);
+        }
+        return img;
+    }
 
-        img.setColor(fill);
-        img.fillRect(innerX, innerY, fillW, innerH);
-        
-        
+    //solid fill strip of one color and width
+    //made the first time a bar needs it, shared by all bars
+    private static GreenfootImage strip(Color color, int w, int h)
+    {
+        String key = color.getRed() + "," + color.getGreen() + "," + color.getBlue() + "|" + w + "x" + h;
+        GreenfootImage img = strips.get(key);
+        if (img == null)
+        {
+            img = new GreenfootImage(w, h);
+            img.setColor(color);
+            img.fill();
+            strips.put(key, img);
+        }
+        return img;
     }
-}
\ No newline at end of file
+}
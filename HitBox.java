@@ -11,7 +11,25 @@ import java.util.*;
 public class HitBox extends SuperSmoothMover
 {
     private int life;
+
+    //releases the hitbox when its life is up, scheduled in addedToWorld
+    private TimerWheel.Timer lifeTimer = new TimerWheel.Timer(new Runnable()
+    {
+        public void run()
+        {
+            if (getWorld() != null)
+            {
+                ProjectilePool.release(HitBox.this);
+            }
+        }
+    });
     private int attackPower;
+
+    //enemies touched this frame, reused to avoid a new list every act
+    private ArrayList<Enemy> enemies = new ArrayList<Enemy>();
+
+    //invisible images by size, a few per weapon and direction
+    private static HashMap<String, GreenfootImage> images = new HashMap<String, GreenfootImage>();
     
     /*
      * Creates an invisible hitbox.
@@ -22,24 +40,72 @@ public class HitBox extends SuperSmoothMover
      * @oaram attackPower passed by the player
      */
     public HitBox(int w, int h, int lifeFrames, int attackPower)
+    {
+        reset(w, h, lifeFrames, attackPower);
+    }
+
+    /**
+     * Sets the hitbox up for a new swing,
+     * used by the constructor and by ProjectilePool when it reuses one.
+     */
+    public void reset(int w, int h, int lifeFrames, int attackPower)
     {
         life = lifeFrames;
         this.attackPower=attackPower;
 
-        //invisible rectangle
-        GreenfootImage img = new GreenfootImage(w, h);
-        img.setTransparency(0);
+        //invisible rectangle, one per size, shared
+        String key = w + "x" + h;
+        GreenfootImage img = images.get(key);
+        if (img == null)
+        {
+            img = new GreenfootImage(w, h);
+            img.setTransparency(0);
+            images.put(key, img);
+        }
         setImage(img);
         
         //increase attackcount
         GameWorld.attackCount++;
     }
 
+    /**
+     * Starts the lifetime on the world's timers,
+     * +1 so the hitbox still acts (hits) life times.
+     */
+    protected void addedToWorld(World world)
+    {
+        if (world instanceof GameWorld)
+        {
+            ((GameWorld) world).getTimers().schedule(lifeTimer, life + 1);
+        }
+    }
+
     public void act()
+    {
+        long t=FrameProfiler.begin();
+        hitEnemies();
+        FrameProfiler.end(FrameProfiler.PROJECTILES, t);
+    }
+    /**
+     * One frame of the hitbox, act() times it for the profiler.
+     */
+    private void hitEnemies()
     {
         //remove enemies touched
-        ArrayList<Enemy> enemies = (ArrayList<Enemy>)getIntersectingObjects(Enemy.class);
-        if (enemies != null && enemies.size() > 0)
+        World w = getWorld();
+        if (w instanceof GameWorld)
+        {
+            ((GameWorld) w).getSpatialHash().getIntersecting(this, Enemy.class, enemies);
+        }
+        else
+        {
+            enemies.clear();
+            enemies.addAll(getIntersectingObjects(Enemy.class));
+
+            //no timers outside a GameWorld, count down here
+            life--;
+        }
+        if (enemies.size() > 0)
         {
             for (Enemy e : enemies)
             {
@@ -55,11 +121,9 @@ public class HitBox extends SuperSmoothMover
             }
         }
 
-        //countdown
-        life--;
         if (life <= 0 && getWorld() != null)
         {
-            getWorld().removeObject(this);
+            ProjectilePool.release(this);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+import greenfoot.*;
+
+/**
+ * InputFrame is the keyboard state of the current frame.
+ *
+ * GameWorld.act samples it first thing, once per frame,
+ * and the player, warriors, PromptManager and GameWorld read it
+ * instead of asking Greenfoot.isKeyDown themselves:
+ * - isDown(key):        held this frame
+ * - justPressed(key):   down now, up last frame
+ * - justReleased(key):  up now, down last frame
+ *
+ * So every reader sees the same keys for the whole frame,
+ * nobody keeps its own "was down" flag, and the game can be driven
+ * by set() instead of the keyboard (InputLog replays, tests).
+ *
+ * Keys are bit numbers, the three sets are plain ints.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class InputFrame
+{
+    //keys the game uses, bit numbers
+    public static final int LEFT=0;
+    public static final int RIGHT=1;
+    public static final int UP=2;
+    public static final int DOWN=3;
+    public static final int A=4;
+    public static final int D=5;
+    public static final int W=6;
+    public static final int S=7;
+    public static final int SPACE=8;
+    public static final int K=9;
+    public static final int E=10;
+    public static final int R=11;
+    public static final int Q=12;
+    public static final int U=13;
+    public static final int ESCAPE=14;
+    public static final int F3=15;
+    public static final int KEY_COUNT=16;
+
+    //Greenfoot key names, by bit
+    private static final String[] NAMES=
+    {
+        "left", "right", "up", "down", "a", "d", "w", "s",
+        "space", "k", "e", "r", "q", "u", "escape", "f3"
+    };
+
+    private static int held=0;
+    private static int pressed=0;
+    private static int released=0;
+
+    /**
+     * Reads every key from Greenfoot once, for this frame.
+     */
+    public static void sample()
+    {
+        int bits=0;
+        for (int key=0; key < KEY_COUNT; key++)
+        {
+            if (Greenfoot.isKeyDown(NAMES[key]))
+            {
+                bits |= 1 << key;
+            }
+        }
+        set(bits);
+    }
+
+    /**
+     * Makes bits this frame's held keys, edges are worked out
+     * against the last frame.
+     */
+    public static void set(int bits)
+    {
+        pressed=bits & ~held;
+        released=held & ~bits;
+        held=bits;
+    }
+
+    /**
+     * No key held, so a key already down when a GameWorld starts
+     * counts as pressed on its first frame, live and in a replay alike.
+     */
+    public static void clear()
+    {
+        held=0;
+        pressed=0;
+        released=0;
+    }
+
+    public static boolean isDown(int key)
+    {
+        return (held & (1 << key)) != 0;
+    }
+
+    public static boolean justPressed(int key)
+    {
+        return (pressed & (1 << key)) != 0;
+    }
+
+    public static boolean justReleased(int key)
+    {
+        return (released & (1 << key)) != 0;
+    }
+
+    /**
+     * @return all held keys, bit per key
+     */
+    public static int downBits()
+    {
+        return held;
+    }
+
+    public static int pressedBits()
+    {
+        return pressed;
+    }
+
+    public static int releasedBits()
+    {
+        return released;
+    }
+
+    //arrows or WASD
+    public static boolean left()
+    {
+        return isDown(LEFT) || isDown(A);
+    }
+
+    public static boolean right()
+    {
+        return isDown(RIGHT) || isDown(D);
+    }
+
+    public static boolean up()
+    {
+        return isDown(UP) || isDown(W);
+    }
+
+    public static boolean down()
+    {
+        return isDown(DOWN) || isDown(S);
+    }
+}
@@ -0,0 +1,385 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.util.Arrays;
+
+/**
+ * InputLog records a play session as the seed plus every frame's keys,
+ * and plays it back, so a run (and a hitch a player saw in it) can be
+ * played again exactly, e.g. headless with ReplayRunner.
+ *
+ * The game draws all its random numbers from the session seed and
+ * reads all its keys from InputFrame, so those two are the whole input.
+ *
+ * Layout (big endian):
+ * header
+ *   int    MAGIC ("RINP")
+ *   short  VERSION
+ *   short  0 (reserved)
+ *   long   seed
+ *   byte   warrior type
+ *   byte   1 if the session was resumed from a save, else 0
+ *   int    start state length, 0 for a new game
+ *   bytes  start state, SaveFormat.encode of the resumed save
+ * runs, to the end of the file
+ *   short  InputFrame.downBits()
+ *   short  frames these keys were held, 1..65535
+ *
+ * Keys change a few times a second at most, so a minute of play
+ * is usually well under 1 KB. A run cut short by a crash is dropped,
+ * everything before it still plays.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class InputLog
+{
+    public static final int MAGIC=0x52494E50;
+    public static final int VERSION=1;
+
+    //longest run one record holds
+    private static final int MAX_RUN=0xFFFF;
+
+    //write what was recorded every 10 seconds of play
+    private static final int FLUSH_FRAMES=10 * 60;
+
+    //the session being recorded, one at a time
+    private static Recorder recording=null;
+
+    /**
+     * Starts recording a new session to file, ending the one before if any.
+     * The log already in file is kept as prevFile, replacing the older one.
+     *
+     * @param startState:   SaveFormat bytes the session was resumed from, or null
+     * @return the recorder, or null if the file can not be written
+     */
+    public static Recorder startRecording(String file, String prevFile, long seed, int warriorType,
+                                          ByteBuffer startState)
+    {
+        stopRecording();
+
+        try
+        {
+            //the session before is usually the one a player reports
+            Path last=Paths.get(file);
+            if (Files.exists(last))
+            {
+                Files.move(last, Paths.get(prevFile), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            DataOutputStream out=new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(0);
+            out.writeLong(seed);
+            out.writeByte(warriorType);
+            out.writeByte(startState != null ? 1 : 0);
+            if (startState != null)
+            {
+                out.writeInt(startState.limit());
+                out.write(startState.array(), 0, startState.limit());
+            }
+            else
+            {
+                out.writeInt(0);
+            }
+            recording=new Recorder(out);
+            return recording;
+        }
+        catch (IOException e)
+        {
+            System.out.println("Input recording off: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes out and closes the session being recorded.
+     */
+    public static void stopRecording()
+    {
+        if (recording != null)
+        {
+            recording.close();
+            recording=null;
+        }
+    }
+
+    /**
+     * Writes one session's keys as runs, on the game thread.
+     */
+    public static class Recorder
+    {
+        private DataOutputStream out;
+
+        //keys of the run being counted, and its length
+        private int runBits=0;
+        private int runFrames=0;
+
+        private int framesSinceFlush=0;
+
+        private Recorder(DataOutputStream out)
+        {
+            this.out=out;
+        }
+
+        /**
+         * Adds one frame, called once per GameWorld.act.
+         */
+        public void record(int bits)
+        {
+            if (out == null) return;
+
+            if (runFrames > 0 && (bits != runBits || runFrames == MAX_RUN))
+            {
+                writeRun();
+            }
+            runBits=bits;
+            runFrames++;
+
+            //a few bytes at most, so the game thread can write them
+            framesSinceFlush++;
+            if (framesSinceFlush >= FLUSH_FRAMES)
+            {
+                writeRun();
+                flush();
+            }
+        }
+
+        private void writeRun()
+        {
+            if (runFrames == 0) return;
+            try
+            {
+                out.writeShort(runBits);
+                out.writeShort(runFrames);
+            }
+            catch (IOException e)
+            {
+                fail(e);
+            }
+            runFrames=0;
+        }
+
+        private void flush()
+        {
+            framesSinceFlush=0;
+            if (out == null) return;
+            try
+            {
+                out.flush();
+            }
+            catch (IOException e)
+            {
+                fail(e);
+            }
+        }
+
+        private void close()
+        {
+            if (out == null) return;
+            writeRun();
+            try
+            {
+                out.close();
+            }
+            catch (IOException e)
+            {
+                System.out.println("Input recording not closed: " + e.getMessage());
+            }
+            out=null;
+        }
+
+        //stop recording, the game goes on
+        private void fail(IOException e)
+        {
+            System.out.println("Input recording stopped: " + e.getMessage());
+            try
+            {
+                out.close();
+            }
+            catch (IOException ignored)
+            {
+            }
+            out=null;
+        }
+    }
+
+    /**
+     * A recorded session read back into memory, handed out frame by frame.
+     */
+    public static class Replay
+    {
+        private final long seed;
+        private final int warriorType;
+        private final byte[] startState;   //null for a new game
+
+        //runs, bits[i] held for frames[i] frames
+        private final int[] bits;
+        private final int[] frames;
+        private final int runCount;
+
+        private int run=0;
+        private int usedOfRun=0;
+        private long frame=0;
+        private final long totalFrames;
+
+        private Replay(long seed, int warriorType, byte[] startState, int[] bits, int[] frames, int runCount)
+        {
+            this.seed=seed;
+            this.warriorType=warriorType;
+            this.startState=startState;
+            this.bits=bits;
+            this.frames=frames;
+            this.runCount=runCount;
+
+            long total=0;
+            for (int i=0; i < runCount; i++)
+            {
+                total += frames[i];
+            }
+            totalFrames=total;
+        }
+
+        /**
+         * Reads a whole log.
+         *
+         * @return the replay, or null if the file is missing or not a log
+         */
+        public static Replay load(String file)
+        {
+            File f=new File(file);
+            if (!f.exists())
+            {
+                System.out.println("No input log: " + file);
+                return null;
+            }
+
+            try (DataInputStream in=new DataInputStream(new BufferedInputStream(new FileInputStream(f))))
+            {
+                if (in.readInt() != MAGIC)
+                {
+                    System.out.println("Not an input log: " + file);
+                    return null;
+                }
+                int version=in.readShort();
+                in.readShort();
+                if (version < 1 || version > VERSION)
+                {
+                    System.out.println("Unknown input log version: " + version);
+                    return null;
+                }
+
+                long seed=in.readLong();
+                int warriorType=in.readByte();
+                boolean resumed=(in.readByte() == 1);
+                int stateLength=in.readInt();
+                byte[] startState=null;
+                if (resumed)
+                {
+                    startState=new byte[stateLength];
+                    in.readFully(startState);
+                }
+
+                //every complete run to the end of the file
+                int runCount=0;
+                int[] bits=new int[256];
+                int[] frames=new int[256];
+                byte[] run=new byte[4];
+                while (readRun(in, run))
+                {
+                    if (runCount == bits.length)
+                    {
+                        bits=Arrays.copyOf(bits, runCount * 2);
+                        frames=Arrays.copyOf(frames, runCount * 2);
+                    }
+                    bits[runCount]=((run[0] & 0xFF) << 8) | (run[1] & 0xFF);
+                    frames[runCount]=((run[2] & 0xFF) << 8) | (run[3] & 0xFF);
+                    runCount++;
+                }
+                return new Replay(seed, warriorType, startState, bits, frames, runCount);
+            }
+            catch (IOException e)
+            {
+                System.out.println("Input log not read: " + e.getMessage());
+                return null;
+            }
+        }
+
+        //false at the end of the file or a run cut short
+        private static boolean readRun(DataInputStream in, byte[] run) throws IOException
+        {
+            int got=0;
+            while (got < run.length)
+            {
+                int n=in.read(run, got, run.length - got);
+                if (n < 0) return false;
+                got += n;
+            }
+            return true;
+        }
+
+        public long getSeed()
+        {
+            return seed;
+        }
+
+        public int getWarriorType()
+        {
+            return warriorType;
+        }
+
+        public boolean isResumed()
+        {
+            return startState != null;
+        }
+
+        /**
+         * Applies the save the session was resumed from onto map,
+         * in place of SaveManager.load.
+         *
+         * @return its GameData, or null for a new game
+         */
+        public GameData loadStartState(GameMap map)
+        {
+            if (startState == null) return null;
+            return SaveFormat.decode(ByteBuffer.wrap(startState), map);
+        }
+
+        public boolean hasNext()
+        {
+            return run < runCount;
+        }
+
+        /**
+         * @return the keys of the next frame, 0 after the end
+         */
+        public int next()
+        {
+            if (run >= runCount) return 0;
+
+            int b=bits[run];
+            usedOfRun++;
+            frame++;
+            if (usedOfRun >= frames[run])
+            {
+                run++;
+                usedOfRun=0;
+            }
+            return b;
+        }
+
+        /**
+         * @return frames handed out so far
+         */
+        public long getFrame()
+        {
+            return frame;
+        }
+
+        public long getTotalFrames()
+        {
+            return totalFrames;
+        }
+    }
+}
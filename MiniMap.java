@@ -24,6 +24,22 @@ public class MiniMap extends Actor
     //Padding between cells in pixels
     private static int PAD= GameConfig.MINIMAP_PAD;
 
+    //colors, made once
+    private static final Color BG=new Color(0, 0, 0, 120);
+    private static final Color NO_ROOM=new Color(40, 40, 40);
+    private static final Color NOT_VISITED=new Color(120, 120, 120);
+    private static final Color CLEARED=new Color(70, 200, 70);
+    private static final Color VISITED=new Color(220, 220, 220);
+    private static final Color BADGE_BG=new Color(0, 0, 0, 160);
+    private static final greenfoot.Font BADGE_FONT=new greenfoot.Font(Math.max(10, CELL / 3));
+
+    //the minimap image, kept and redrawn one cell at a time
+    private GreenfootImage img;
+
+    //room drawn with the cyan outline
+    private int currentR=-1;
+    private int currentC=-1;
+
     /**
      * Called  when MiniMap is added to the world.
      * 
@@ -32,92 +48,153 @@ public class MiniMap extends Actor
     public void addedToWorld(World world) 
     {
         w=(GameWorld) world;
-        updateImage();
+        rebuildImage();
     }
 
-    //redraw every frame
-    public void act() 
+    //only redraw the rooms that changed
+    public void act()
     {
-        updateImage();
+        long t=FrameProfiler.begin();
+        redrawChanged();
+        FrameProfiler.end(FrameProfiler.HUD, t);
+    }
+    //one frame of the minimap, act() times it for the profiler
+    private void redrawChanged() 
+    {
+        if (w == null) return;
+
+        GameMap map=w.getGameMap();
+        int cell=map.pollChangedRoom();
+        while (cell >= 0)
+        {
+            drawCell(cell / map.getCols(), cell % map.getCols());
+            cell=map.pollChangedRoom();
+        }
     }
 
     /**
-     * Rebuilds the minimap image based on visited/cleared states.
+     * Called by GameWorld when the player moves to another room,
+     * moves the cyan outline.
      */
-    private void updateImage() 
+    public void setCurrentRoom(int r, int c)
+    {
+        int oldR=currentR;
+        int oldC=currentC;
+        currentR=r;
+        currentC=c;
+
+        if (img == null) return;
+
+        if (oldR >= 0)
+        {
+            drawCell(oldR, oldC);
+        }
+        drawCell(r, c);
+    }
+
+    /**
+     * Draws the whole minimap once, later only changed cells are redrawn.
+     */
+    private void rebuildImage() 
     {
         if (w == null) return;
 
         //grid size
         int rows=w.getRows();
         int cols=w.getCols();
-        
+
+        img=newImage(rows, cols);
+
+        currentR=w.getRoomR();
+        currentC=w.getRoomC();
+
+        for (int r=0; r < rows; r++) {
+            for (int c=0; c < cols; c++) {
+                drawCell(r, c);
+            }
+        }
+
+        setImage(img);
+    }
+
+    /**
+     * Redraws one room cell on the kept image.
+     */
+    private void drawCell(int r, int c)
+    {
+        drawCell(img, w.getGameMap(), r, c, currentR, currentC);
+    }
+
+    /**
+     * @return an empty minimap image for a rows x cols grid, background filled
+     */
+    static GreenfootImage newImage(int rows, int cols)
+    {
         //image size:
         //cach cell is CELL pixels wide/high, 
         //with PAD pixels between cells and around the edges.
         int width =cols * (CELL + PAD) + PAD;
         int height=rows * (CELL + PAD) + PAD;
         
-
-        //create a fresh image every time 
         GreenfootImage img=new GreenfootImage(width, height);
         //draw the background panel 
         //black with transparnecy=120
-        img.setColor(new Color(0, 0, 0, 120));
+        img.setColor(BG);
         img.fill();
+        return img;
+    }
 
-        for (int r=0; r < rows; r++) {
-            for (int c=0; c < cols; c++) {
+    /**
+     * Draws room (r, c) of map onto img.
+     * Needs no World, so Benchmarks can time it on a bare image.
+     */
+    static void drawCell(GreenfootImage img, GameMap map, int r, int c, int currentR, int currentC)
+    {
+        //convert grid position (r,c)
+        //into x,y)on the minimap image
+        int x=PAD + c * (CELL + PAD);
+        int y=PAD + r * (CELL + PAD);
 
-                //convert grid position (r,c)
-                //into x,y)on the minimap image
-                int x=PAD + c * (CELL + PAD);
-                int y=PAD + r * (CELL + PAD);
-
-                if (!w.roomExists(r, c)) 
-                {
-                    img.setColor(new Color(40, 40, 40));
-                    img.fillRect(x, y, CELL, CELL);
-                    continue;
-                }
-
-                if (!w.wasVisited(r, c)) 
-                {
-                    //gray
-                    //room exists but player has never entered it yet
-                    img.setColor(new Color(120, 120, 120));
-                } else if (w.isCleared(r, c)) 
-                {
-                    //bright green
-                    //room was visited and cleared
-                    img.setColor(new Color(70, 200, 70));
-                } else 
-                {
-                    //light gray
-                    //room was visited but not cleared yet
-                    img.setColor(new Color(220, 220, 220));
-                }
-                img.fillRect(x, y, CELL, CELL);
-                
-                char type=w.getRoomType(r, c);
-                //show markers for special rooms
-                if (type == 'T' || type == 'S'|| type == 'D'|| type == 'R')
-                {
-                    drawRoomTypeMarker(img, x, y, type);
-                }
-
-                //highlight the player's current room with a cyan outline
-                if (r == w.getRoomR() && c == w.getRoomC()) {
-                    img.setColor(Color.CYAN);
-                    img.drawRect(x, y, CELL- 1, CELL - 1);
-                    img.drawRect(x + 1, y + 1, CELL - 3, CELL - 3);
-                }
-            }
+        if (!map.hasRoom(r, c)) 
+        {
+            img.setColor(NO_ROOM);
+            img.fillRect(x, y, CELL, CELL);
+            return;
         }
 
-        setImage(img);
+        if (!map.wasVisited(r, c)) 
+        {
+            //gray
+            //room exists but player has never entered it yet
+            img.setColor(NOT_VISITED);
+        } else if (map.isCleared(r, c)) 
+        {
+            //bright green
+            //room was visited and cleared
+            img.setColor(CLEARED);
+        } else 
+        {
+            //light gray
+            //room was visited but not cleared yet
+            img.setColor(VISITED);
+        }
+        img.fillRect(x, y, CELL, CELL);
+        
+        char type=map.getRoomType(r, c);
+        //show markers for special rooms
+        if (type == 'T' || type == 'S'|| type == 'D'|| type == 'R')
+        {
+            drawRoomTypeMarker(img, x, y, type);
+        }
+
+        //highlight the player's current room with a cyan outline
+        if (r == currentR && c == currentC) {
+            img.setColor(Color.CYAN);
+            img.drawRect(x, y, CELL- 1, CELL - 1);
+            img.drawRect(x + 1, y + 1, CELL - 3, CELL - 3);
+        }
     }
-    private void drawRoomTypeMarker(GreenfootImage img, int x, int y, char type)
+    private static void drawRoomTypeMarker(GreenfootImage img, int x, int y, char type)
     {
         //draw a small badge in the top-right of the cell
         int badge=Math.max(10, CELL / 3);
@@ -125,12 +202,12 @@ public class MiniMap extends Actor
         int by=y + 2;
     
         //adge background
-        img.setColor(new Color(0, 0, 0, 160));
+        img.setColor(BADGE_BG);
         img.fillRect(bx, by, badge, badge);
     
         //letter
         img.setColor(Color.WHITE);
-        img.setFont(new greenfoot.Font(Math.max(10, badge))); //font size
+        img.setFont(BADGE_FONT); //font size
         img.drawString(""+type, bx + 2, by + badge - 2);
     }
     
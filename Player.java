@@ -22,9 +22,14 @@ public abstract class Player extends CombatActor
     
     //While > 0, 
     //the player cannot take damage again
-    protected int hurtCooldown = 0;
+    //now() frame the invincibility ends
+    protected long hurtUntil = 0;
      //how many frames before another damage can count 
     protected int hurtCooldownFrames = GameConfig.DEFAULT_INVINCIBILITY_FRAMES;
+
+    //hurt flicker: the frame being shown and its see-through copy
+    private GreenfootImage hurtFrame = null;
+    private GreenfootImage hurtImage = null;
     
     //keep track of coins collected
     private int coins=0;
@@ -32,7 +37,6 @@ public abstract class Player extends CombatActor
     
     //stone related fields
     private int stoneSkills=GameConfig.DEFAULT_STONE_COUNT;  //default
-    private boolean keyWasDown = false;
     
     private boolean[] ownedArtifacts = new boolean[10];
     
@@ -41,22 +45,23 @@ public abstract class Player extends CombatActor
      * 
      * Parant class provides default movement
      *
-     * @return int[]{dx, dy}
+     * result goes into moveDx/moveDy
      */
-    protected int[] computeMove()
+    protected void computeMove()
     {
         if (attacking) 
         {
-            return new int[] {0, 0};   
+            setMove(0, 0);
+            return;
         }
 
         int dx = 0;
         int dy = 0;
 
-        boolean leftKey  = Greenfoot.isKeyDown("left")  || Greenfoot.isKeyDown("a");
-        boolean rightKey = Greenfoot.isKeyDown("right") || Greenfoot.isKeyDown("d");
-        boolean upKey    = Greenfoot.isKeyDown("up")    || Greenfoot.isKeyDown("w");
-        boolean downKey  = Greenfoot.isKeyDown("down")  || Greenfoot.isKeyDown("s");
+        boolean leftKey  = InputFrame.left();
+        boolean rightKey = InputFrame.right();
+        boolean upKey    = InputFrame.up();
+        boolean downKey  = InputFrame.down();
 
         if (leftKey)
         {
@@ -75,7 +80,7 @@ public abstract class Player extends CombatActor
             dy += speed;   
         }
 
-        return new int[] {dx, dy};
+        setMove(dx, dy);
     }
     
 
@@ -108,15 +113,6 @@ public abstract class Player extends CombatActor
             }
         }
 
-        //reduce invincibility timer each frame
-        if (hurtCooldown > 0) hurtCooldown--;
-        
-        //cooldown countdown
-        if (attackCooldown > 0)
-        {
-            attackCooldown--;
-        }
-
         //if attacking, only play attack animation
         if (attacking)
         {
@@ -125,9 +121,9 @@ public abstract class Player extends CombatActor
         }
 
         //movement comes from subclass
-        int[] mv = computeMove();
-        int dx = mv[0];
-        int dy = mv[1];
+        computeMove();
+        int dx = moveDx;
+        int dy = moveDy;
 
         boolean moving = (dx != 0 || dy != 0);
 
@@ -170,31 +166,41 @@ public abstract class Player extends CombatActor
         }
 
         //start attack?
-        if (attackCooldown == 0 && wantsToAttack())
+        if (attackReady() && wantsToAttack())
         {
             startAttack();
         }
         
         //if k is pressed, trigger stone skill
-        boolean keyDown = Greenfoot.isKeyDown("k"); 
-        if (keyDown && !keyWasDown)
+        if (InputFrame.justPressed(InputFrame.K))
         {
             useStone();
         }
-        keyWasDown = keyDown;
         
         //visual feedback to indicate player is hurt
         //once player got hit, it will flicker
         //to indicate not taking damage while flickering
         //for continuous touching, it would look like it takes damage while flickering
-        if (hurtCooldown > 0)
+        long hurtLeft = hurtUntil - now();
+        GreenfootImage shown = getImage();
+        if (shown == hurtImage)
+        {
+            shown = hurtFrame;   //animation did not move on this frame
+        }
+        if (hurtLeft > 0 && hurtLeft % 6 < 3)
         {
-            if (hurtCooldown % 6 < 3) getImage().setTransparency(120);
-            else getImage().setTransparency(255);
+            //frames are shared through SpriteCache, dim a copy of this one
+            if (hurtFrame != shown)
+            {
+                hurtFrame = shown;
+                hurtImage = new GreenfootImage(shown);
+                hurtImage.setTransparency(120);
+            }
+            setImage(hurtImage);
         }
         else
         {
-            getImage().setTransparency(255);
+            setImage(shown);
         }
 
     }
@@ -290,7 +296,7 @@ public abstract class Player extends CombatActor
     }
     /**
      * Damages the player by a given amount.
-     * Uses invincibility frames (hurtCooldown) to prevent rapid repeat damage.
+     * Uses invincibility frames (hurtUntil) to prevent rapid repeat damage.
      * If health reaches 0, the player dies and the game stops.
      *
      * @param amount how much damage to take (ignored if <= 0)
@@ -301,14 +307,14 @@ public abstract class Player extends CombatActor
     
         
         //if invincibility is active, ignore this damage
-        if (hurtCooldown > 0)
+        if (now() < hurtUntil)
         {
-            //System.out.println("BLOCKED hit! hurtCooldown=" + hurtCooldown);
+            //System.out.println("BLOCKED hit! hurtUntil=" + hurtUntil);
             return;
         }
     
         //start invincibility frames
-        hurtCooldown = hurtCooldownFrames;
+        hurtUntil = now() + hurtCooldownFrames;
         //System.out.println("TOOK hit! amount=" + amount + " health(before)=" + health);
         
         //apply damage
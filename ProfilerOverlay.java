@@ -0,0 +1,74 @@
+import greenfoot.*;
+
+/**
+ * ProfilerOverlay shows FrameProfiler numbers in the side panel:
+ * frame time p50/p99 and the slowest sections.
+ *
+ * GameWorld adds it when F3 turns the profiler on
+ * and removes it when F3 turns it off.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class ProfilerOverlay extends Actor
+{
+    private static final int W=260;
+    private static final int H=100;
+
+    //redraw every 15 frames, the numbers are over the last few seconds anyway
+    private static final int REDRAW_FRAMES=15;
+
+    private static final Color BG=new Color(0, 0, 0, 170);
+
+    private GreenfootImage img=new GreenfootImage(W, H);
+    private GlyphAtlas text=GlyphAtlas.get(14, Color.WHITE);
+    private int[] top=new int[4];
+    private int timer=0;
+
+    public ProfilerOverlay()
+    {
+        redraw();
+        setImage(img);
+    }
+
+    public void act()
+    {
+        timer++;
+        if (timer >= REDRAW_FRAMES)
+        {
+            timer=0;
+            redraw();
+        }
+    }
+
+    private void redraw()
+    {
+        img.clear();
+        img.setColor(BG);
+        img.fill();
+
+        int lineH=text.getLineHeight() + 2;
+        int y=4;
+        text.drawString(img, "frame p50 " + ms(FrameProfiler.percentile(FrameProfiler.FRAME, 50))
+                             + "  p99 " + ms(FrameProfiler.percentile(FrameProfiler.FRAME, 99)), 6, y);
+        y += lineH;
+
+        int count=FrameProfiler.topSections(top);
+        for (int i=0; i < count && y + lineH <= H; i++)
+        {
+            int s=top[i];
+            text.drawString(img, FrameProfiler.nameOf(s) + "  avg " + ms(FrameProfiler.mean(s))
+                                 + "  p99 " + ms(FrameProfiler.percentile(s, 99)), 6, y);
+            y += lineH;
+        }
+    }
+
+    //ns to "1.23ms"
+    private static String ms(long ns)
+    {
+        long hundredths=ns / 10000;
+        String frac="" + (hundredths % 100);
+        if (frac.length() < 2) frac="0" + frac;
+        return (hundredths / 100) + "." + frac + "ms";
+    }
+}
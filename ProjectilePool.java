@@ -0,0 +1,110 @@
+import greenfoot.*;
+import java.util.ArrayList;
+
+/**
+ * ProjectilePool recycles Bullet, EnemyArrow and HitBox objects,
+ * so sustained fire in a boss room does not create new actors,
+ * new images or read arrow pngs from disk.
+ *
+ * - acquire*() takes a free one (or makes one) and resets it
+ * - release() removes it from the world and puts it back,
+ *   projectiles call it instead of removeObject(this)
+ * - images are built once and shared, nothing draws on them
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class ProjectilePool
+{
+    //more than this many free ones are left to the garbage collector
+    private static final int MAX_FREE=64;
+
+    private static ArrayList<Bullet> freeBullets=new ArrayList<Bullet>();
+    private static ArrayList<EnemyArrow> freeArrows=new ArrayList<EnemyArrow>();
+    private static ArrayList<HitBox> freeHitBoxes=new ArrayList<HitBox>();
+
+    /**
+     * @return a Bullet moving in direction (dirX, dirY), not in a world yet
+     */
+    public static Bullet acquireBullet(int dirX, int dirY, int attackPower)
+    {
+        Bullet b;
+        if (freeBullets.isEmpty())
+        {
+            b=new Bullet(dirX, dirY, attackPower);
+        }
+        else
+        {
+            b=freeBullets.remove(freeBullets.size() - 1);
+            b.reset(dirX, dirY, attackPower);
+        }
+        return b;
+    }
+
+    /**
+     * @return an EnemyArrow moving in direction (dirX, dirY), not in a world yet
+     */
+    public static EnemyArrow acquireArrow(int dirX, int dirY, int damagePower)
+    {
+        EnemyArrow a;
+        if (freeArrows.isEmpty())
+        {
+            a=new EnemyArrow(dirX, dirY, damagePower);
+        }
+        else
+        {
+            a=freeArrows.remove(freeArrows.size() - 1);
+            a.reset(dirX, dirY, damagePower);
+        }
+        return a;
+    }
+
+    /**
+     * @return a w x h HitBox lasting lifeFrames, not in a world yet
+     */
+    public static HitBox acquireHitBox(int w, int h, int lifeFrames, int attackPower)
+    {
+        HitBox hb;
+        if (freeHitBoxes.isEmpty())
+        {
+            hb=new HitBox(w, h, lifeFrames, attackPower);
+        }
+        else
+        {
+            hb=freeHitBoxes.remove(freeHitBoxes.size() - 1);
+            hb.reset(w, h, lifeFrames, attackPower);
+        }
+        return hb;
+    }
+
+    /**
+     * Removes a from its world (if still in one) and keeps it for reuse.
+     * Actors that are not pooled projectiles are only removed.
+     */
+    public static void release(Actor a)
+    {
+        if (a == null) return;
+
+        if (a.getWorld() != null)
+        {
+            a.getWorld().removeObject(a);
+        }
+
+        //lists are short, contains() stops a double release
+        if (a instanceof EnemyArrow)
+        {
+            EnemyArrow arrow=(EnemyArrow) a;
+            if (freeArrows.size() < MAX_FREE && !freeArrows.contains(arrow)) freeArrows.add(arrow);
+        }
+        else if (a instanceof Bullet)
+        {
+            Bullet b=(Bullet) a;
+            if (freeBullets.size() < MAX_FREE && !freeBullets.contains(b)) freeBullets.add(b);
+        }
+        else if (a instanceof HitBox)
+        {
+            HitBox hb=(HitBox) a;
+            if (freeHitBoxes.size() < MAX_FREE && !freeHitBoxes.contains(hb)) freeHitBoxes.add(hb);
+        }
+    }
+}
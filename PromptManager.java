@@ -39,10 +39,6 @@ public class PromptManager extends Actor
     private StoneSkill stoneSkillUpgrade;
     private StoneSkill stoneSkillUpgradeDeclined;
     private StoneSkill stoneSkillUpgradeAccepted;
-
-    //prevent multiple keey press
-    private boolean uWasDown=false;
-    private boolean dWasDown=false;
     
     //for game Messags
     //private TextLabel gameMessage;
@@ -67,15 +63,10 @@ public class PromptManager extends Actor
             return;
         }
 
-        boolean uDown=Greenfoot.isKeyDown("u");
-        boolean dDown=Greenfoot.isKeyDown("d");
-
-        //make sure it was not pressed multiple times
-        boolean uPressed=uDown && !uWasDown;
-        boolean dPressed=dDown && !dWasDown;
-
-        uWasDown=uDown;
-        dWasDown=dDown;
+        //just pressed, so holding a key does not trigger it again,
+        //and a key already held when the prompt opened does not count
+        boolean uPressed=InputFrame.justPressed(InputFrame.U);
+        boolean dPressed=InputFrame.justPressed(InputFrame.D);
 
         if (uPressed)
         {
@@ -143,10 +134,6 @@ public class PromptManager extends Actor
             + "Press U=Upgrade, D=Decline",9999);
 
         }
-                    
-        //recognize key press, avoid multiple trigger
-        uWasDown=Greenfoot.isKeyDown("u");
-        dWasDown=Greenfoot.isKeyDown("d");
     }
      /**
      * Called by respective class to show upgrade
@@ -186,10 +173,6 @@ public class PromptManager extends Actor
             + "Press U=Upgrade, D=Decline",9999);
 
         }
-                    
-        //recognize key press, avoid multiple trigger
-        uWasDown=Greenfoot.isKeyDown("u");
-        dWasDown=Greenfoot.isKeyDown("d");
     }
      /**
      * Called by respective class to show upgrade
@@ -230,10 +213,6 @@ public class PromptManager extends Actor
             + "Press U=Upgrade, D=Decline",9999);
 
         }
-                    
-        //recognize key press, avoid multiple trigger
-        uWasDown=Greenfoot.isKeyDown("u");
-        dWasDown=Greenfoot.isKeyDown("d");
     }
     /**
      * when player accept the upgrade
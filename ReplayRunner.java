@@ -0,0 +1,164 @@
+import greenfoot.*;
+import java.util.List;
+
+/**
+ * ReplayRunner plays an InputLog back headless, as fast as it can,
+ * so a hitch a player reported can be found and looked at under a profiler.
+ *
+ * Run from the scenario folder with greenfoot.jar on the classpath:
+ *   java -Djava.awt.headless=true -cp .:greenfoot.jar ReplayRunner session.rec
+ * and add e.g. -XX:StartFlightRecording=filename=replay.jfr,settings=profile
+ * to record it (GameEvents show the room loads and waves too).
+ * session.prev.rec is the session before the last one, e.g. the run
+ * a player retried after.
+ *
+ * Greenfoot sets up its runtime (image loading, actors) when it starts
+ * a scenario, not for a plain main, so main does that first with the
+ * standalone classes of greenfoot.jar, the ones an exported scenario uses.
+ *
+ * Each frame does what Greenfoot does: the world's act(), then act()
+ * on every actor in the world, in the order they were added, skipping
+ * those removed earlier in the frame. There is no frame delay and nothing
+ * is drawn to a screen, sound effects are off and nothing is saved.
+ *
+ * At the end it prints the frame count, frames per second, the slowest
+ * frames (frame number and room) and the final room/health/score,
+ * which match between two replays of the same log.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class ReplayRunner
+{
+    //slowest frames listed
+    private static final int SLOWEST=10;
+
+    public static void main(String[] args)
+    {
+        String file=(args.length > 0) ? args[0] : GameConfig.INPUT_LOG_FILE;
+
+        InputLog.Replay replay=InputLog.Replay.load(file);
+        if (replay == null)
+        {
+            return;
+        }
+
+        if (!initGreenfoot())
+        {
+            return;
+        }
+
+        SoundManager.setSfxOn(false);
+        FrameProfiler.setEnabled(true);
+
+        GameWorld world=new GameWorld(replay);
+        System.out.println("replaying " + file + ": seed " + replay.getSeed()
+                           + ", " + replay.getTotalFrames() + " frames"
+                           + (replay.isResumed() ? ", resumed from a save" : ""));
+
+        //slowest frames so far, slowest first
+        long[] slowNs=new long[SLOWEST];
+        long[] slowFrame=new long[SLOWEST];
+        String[] slowRoom=new String[SLOWEST];
+
+        long start=System.nanoTime();
+        while (!world.isReplayOver())
+        {
+            long frameStart=System.nanoTime();
+            step(world);
+            long took=System.nanoTime() - frameStart;
+
+            //insert into the slowest list
+            int at=SLOWEST;
+            while (at > 0 && took > slowNs[at - 1])
+            {
+                at--;
+            }
+            if (at < SLOWEST)
+            {
+                for (int i=SLOWEST - 1; i > at; i--)
+                {
+                    slowNs[i]=slowNs[i - 1];
+                    slowFrame[i]=slowFrame[i - 1];
+                    slowRoom[i]=slowRoom[i - 1];
+                }
+                slowNs[at]=took;
+                slowFrame[at]=replay.getFrame();
+                slowRoom[at]=world.getRoomR() + "," + world.getRoomC();
+            }
+        }
+        long total=System.nanoTime() - start;
+
+        long frames=replay.getFrame();
+        System.out.println(frames + " frames in " + (total / 1000000) + " ms, "
+                           + (total > 0 ? frames * 1000000000L / total : 0) + " frames/s");
+        System.out.println("slowest frames:");
+        for (int i=0; i < SLOWEST && slowRoom[i] != null; i++)
+        {
+            System.out.println("  frame " + slowFrame[i] + "  room " + slowRoom[i]
+                               + "  " + (slowNs[i] / 1000) + " us");
+        }
+
+        List<Player> players=world.getObjects(Player.class);
+        Player p=players.isEmpty() ? null : players.get(0);
+        System.out.println("end: room " + world.getRoomR() + "," + world.getRoomC()
+                           + (p == null ? "" : "  health " + p.getHealth() + "  score " + p.getScore()));
+    }
+
+    /**
+     * Sets up Greenfoot's standalone runtime, as an exported scenario does.
+     * Looked up by name so the scenario still compiles in Greenfoot
+     * whatever greenfoot.jar it is built against.
+     *
+     * @return false if this greenfoot.jar does not have the standalone classes
+     */
+    private static boolean initGreenfoot()
+    {
+        try
+        {
+            //images and other files are found through this delegate
+            Class<?> delegateClass=Class.forName("greenfoot.platforms.standalone.GreenfootUtilDelegateStandAlone");
+            Object delegate;
+            try
+            {
+                delegate=delegateClass.getMethod("getInstance").invoke(null);
+            }
+            catch (NoSuchMethodException e)
+            {
+                delegate=delegateClass.getConstructor().newInstance();
+            }
+            Class.forName("greenfoot.util.GreenfootUtil")
+                 .getMethod("initialise", Class.forName("greenfoot.util.GreenfootUtilDelegate"))
+                 .invoke(null, delegate);
+
+            //actors are bound to their world through this one
+            Class.forName("greenfoot.platforms.standalone.ActorDelegateStandAlone")
+                 .getMethod("setupAsActorDelegate")
+                 .invoke(null);
+            return true;
+        }
+        catch (ReflectiveOperationException e)
+        {
+            System.out.println("Greenfoot runtime not set up, is greenfoot.jar on the classpath? " + e);
+            return false;
+        }
+    }
+
+    /**
+     * One Greenfoot frame.
+     */
+    private static void step(World world)
+    {
+        world.act();
+
+        //a copy, actors added this frame act from the next one
+        List<Actor> actors=world.getObjects(null);
+        for (Actor a : actors)
+        {
+            if (a.getWorld() == world)
+            {
+                a.act();
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+import greenfoot.*;
+import java.util.ArrayList;
+
+/**
+ * RoomActors keeps track of which actors belong to the room
+ * and which stay for the whole game (HUD, player, minimap...).
+ *
+ * On a room change only what differs is touched:
+ * - a wall on the same tile with the same code stays where it is
+ * - other walls are taken out and reused for the next room's walls
+ * - doors are kept by direction, moved and locked again
+ * - everything else room-scoped (enemies, coins, decorations) is removed,
+ *   projectiles go back to ProjectilePool
+ *
+ * GameWorld.loadRoom calls beginRoom(), RoomRenderer asks for walls/doors,
+ * then endRoom() takes out the doors the new room does not have.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class RoomActors
+{
+    private static final int TILES=GameConfig.MAP_ROWS * GameConfig.MAP_COLS;
+
+    private final World world;
+
+    //actors that stay across rooms, ImageIcons always stay too
+    private ArrayList<Actor> persistent=new ArrayList<Actor>();
+
+    //walls of the current room by tr * MAP_COLS + tc, and their tile code
+    private Blocker[] walls=new Blocker[TILES];
+    private int[] wallCodes=new int[TILES];
+
+    //wall code wanted on each tile by the room being built, -1 for none
+    private int[] wanted=new int[TILES];
+
+    //walls taken out of the world, ready to be placed again
+    private ArrayList<Blocker> spareWalls=new ArrayList<Blocker>();
+
+    //doors by direction UP, DOWN, LEFT, RIGHT, in or out of the world
+    private Door[] doors=new Door[4];
+    private boolean[] doorPlaced=new boolean[4];
+
+    public RoomActors(World world)
+    {
+        this.world=world;
+    }
+
+    /**
+     * Marks an actor as not belonging to any room, loadRoom never removes it.
+     */
+    public void keep(Actor a)
+    {
+        if (a != null && !persistent.contains(a))
+        {
+            persistent.add(a);
+        }
+    }
+
+    /**
+     * Clears the room for the one in plan.
+     * Walls that plan has on the same tile stay, doors stay until endRoom().
+     */
+    public void beginRoom(RoomPlan plan)
+    {
+        for (int i=0; i < TILES; i++)
+        {
+            wanted[i]=-1;
+        }
+        for (int[] piece : plan.pieces)
+        {
+            int code=piece[RoomPlan.CODE];
+            if (isWallCode(code))
+            {
+                wanted[piece[RoomPlan.TR] * GameConfig.MAP_COLS + piece[RoomPlan.TC]]=code;
+            }
+        }
+
+        //walls the new room does not have on that tile become spares
+        for (int i=0; i < TILES; i++)
+        {
+            Blocker b=walls[i];
+            if (b == null) continue;
+
+            if (wanted[i] != wallCodes[i] || b.getWorld() != world)
+            {
+                if (b.getWorld() != null)
+                {
+                    b.getWorld().removeObject(b);
+                }
+                spareWalls.add(b);
+                walls[i]=null;
+            }
+        }
+
+        for (int d=0; d < doors.length; d++)
+        {
+            doorPlaced[d]=false;
+        }
+
+        //remove everything else that belongs to the old room
+        ArrayList<Actor> all=new ArrayList<Actor>(world.getObjects(Actor.class));
+        for (Actor a : all)
+        {
+            if (isKept(a)) continue;
+
+            //projectiles go back to the pool
+            ProjectilePool.release(a);
+        }
+    }
+
+    /**
+     * Puts a wall on tile tr, tc, reusing the one already there
+     * or a spare of the same kind and size before making a new one.
+     */
+    public void placeWall(int code, int tr, int tc, int w, int h, int x, int y)
+    {
+        int i=tr * GameConfig.MAP_COLS + tc;
+        if (walls[i] != null)
+        {
+            //same wall as the last room, nothing to do
+            return;
+        }
+
+        Blocker b=takeSpareWall(code, w, h);
+        if (b == null)
+        {
+            if (code == GameConfig.INTERIOR_WALL)
+            {
+                b=new InteriorWall(w, h);
+            }
+            else
+            {
+                b=new ExteriorWall(w, h);
+            }
+        }
+        world.addObject(b, x, y);
+        walls[i]=b;
+        wallCodes[i]=code;
+    }
+
+    /**
+     * @return the door leading (dr, dc), moved to x, y and locked,
+     *         reused if the last room had one in that direction
+     */
+    public Door placeDoor(String name, int dr, int dc, int x, int y)
+    {
+        int d=doorIndex(dr, dc);
+        Door door=doors[d];
+        if (door == null)
+        {
+            door=new Door(name, dr, dc);
+            doors[d]=door;
+        }
+
+        if (door.getWorld() == world)
+        {
+            door.setLocation(x, y);
+            door.resetForRoom();
+        }
+        else
+        {
+            door.resetForRoom();
+            world.addObject(door, x, y);
+        }
+        doorPlaced[d]=true;
+        return door;
+    }
+
+    /**
+     * Takes out the doors of the last room that the new room does not have.
+     */
+    public void endRoom()
+    {
+        for (int d=0; d < doors.length; d++)
+        {
+            if (!doorPlaced[d] && doors[d] != null)
+            {
+                doors[d].removeWithVisual();
+            }
+        }
+    }
+
+    public static boolean isWallCode(int code)
+    {
+        return code == GameConfig.INTERIOR_WALL || code == GameConfig.EXTERIOR_WALL;
+    }
+
+    private boolean isKept(Actor a)
+    {
+        if (persistent.contains(a) || a instanceof ImageIcon)
+        {
+            return true;
+        }
+
+        //kept walls, and doors with their visuals until endRoom()
+        if (a instanceof DoorVisual)
+        {
+            return true;
+        }
+        if (a instanceof Door)
+        {
+            Door d=(Door) a;
+            return doors[doorIndex(d.getDr(), d.getDc())] == d;
+        }
+        if (a instanceof InteriorWall || a instanceof ExteriorWall)
+        {
+            int tr=CollisionGrid.rowAt(a.getY());
+            int tc=CollisionGrid.colAt(a.getX());
+            if (tr < 0 || tr >= GameConfig.MAP_ROWS || tc < 0 || tc >= GameConfig.MAP_COLS)
+            {
+                return false;
+            }
+            return walls[tr * GameConfig.MAP_COLS + tc] == a;
+        }
+        return false;
+    }
+
+    private Blocker takeSpareWall(int code, int w, int h)
+    {
+        for (int i=spareWalls.size() - 1; i >= 0; i--)
+        {
+            Blocker b=spareWalls.get(i);
+            boolean sameKind=(code == GameConfig.INTERIOR_WALL) ? (b instanceof InteriorWall) : (b instanceof ExteriorWall);
+            if (sameKind && b.getImage().getWidth() == w && b.getImage().getHeight() == h)
+            {
+                return spareWalls.remove(i);
+            }
+        }
+        return null;
+    }
+
+    private static int doorIndex(int dr, int dc)
+    {
+        if (dr == -1) return 0;
+        if (dr == 1) return 1;
+        if (dc == -1) return 2;
+        return 3;
+    }
+}
@@ -14,6 +14,15 @@ public class RoomData
     //rhe tile information for the room
     public int[][] tiles;
 
+    //tiles changed by setTile since the last save
+    //lets the save journal write only what changed
+    private boolean dirty=false;
+    private boolean[][] dirtyTiles;
+
+    //bumped by every setTile, a RoomPlan built before it is stale
+    //volatile so RoomPrefetcher's thread sees the tiles written before it
+    private volatile int version=0;
+
     /**
      * creates a room using a template map
      *
@@ -50,7 +59,56 @@ public class RoomData
      */
     public void setTile(int tr, int tc, int floorCode)
     {
+       if (tiles[tr][tc] == floorCode)
+       {
+           return;
+       }
        tiles[tr][tc]=floorCode; //permanently set the particular to be item from that room’s layout 
+
+       if (dirtyTiles == null)
+       {
+           dirtyTiles=new boolean[tiles.length][tiles[0].length];
+       }
+       dirtyTiles[tr][tc]=true;
+       dirty=true;
+       version++;
+    }
+    /**
+     * @return how many tiles were changed by setTile so far
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+    /**
+     * @return true if any tile changed since the last save
+     */
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+    /**
+     * @return true if tile tr, tc changed since the last save
+     */
+    public boolean isTileDirty(int tr, int tc)
+    {
+        return dirty && dirtyTiles[tr][tc];
+    }
+    /**
+     * Called once the changes are saved.
+     */
+    public void clearDirty()
+    {
+        if (!dirty) return;
+
+        for (int r=0; r < dirtyTiles.length; r++)
+        {
+            for (int c=0; c < dirtyTiles[r].length; c++)
+            {
+                dirtyTiles[r][c]=false;
+            }
+        }
+        dirty=false;
     }
     /**
      * Translate this room's tiles into a string.
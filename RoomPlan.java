@@ -0,0 +1,217 @@
+import java.util.ArrayList;
+
+/**
+ * RoomPlan is everything about a room that can be worked out
+ * from its tiles alone, before any actor is made:
+ *
+ * - solid[tr][tc] for the CollisionGrid
+ * - where each wall / decoration / coin goes
+ * - which border doors exist and where
+ *
+ * It uses no Greenfoot classes, so RoomPrefetcher can build it
+ * on its own thread. RoomRenderer only turns it into actors.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class RoomPlan
+{
+    //piece layout: tile code, tile row, tile col, centre x, centre y, width, height
+    public static final int CODE=0;
+    public static final int TR=1;
+    public static final int TC=2;
+    public static final int X=3;
+    public static final int Y=4;
+    public static final int W=5;
+    public static final int H=6;
+
+    //door layout: dr, dc, centre x, centre y
+    public static final int DOOR_DR=0;
+    public static final int DOOR_DC=1;
+    public static final int DOOR_X=2;
+    public static final int DOOR_Y=3;
+
+    public final GameMap map;
+    public final int r;
+    public final int c;
+
+    //RoomData.getVersion() when the plan was built
+    public final int version;
+
+    public final boolean[][] solid=new boolean[GameConfig.MAP_ROWS][GameConfig.MAP_COLS];
+    public final ArrayList<int[]> pieces=new ArrayList<int[]>();
+    public final ArrayList<int[]> doors=new ArrayList<int[]>();
+
+    /**
+     * Works out the plan of room r, c.
+     * Only reads the map, safe to call off the game thread.
+     */
+    public RoomPlan(GameMap map, int r, int c)
+    {
+        this.map=map;
+        this.r=r;
+        this.c=c;
+
+        RoomData rd=map.getRoomData(r, c);
+
+        //read the version first, tiles changed after it make the plan stale
+        version=(rd == null) ? 0 : rd.getVersion();
+        if (rd == null) return;
+
+        for (int tr=0; tr < GameConfig.MAP_ROWS; tr++)
+        {
+            for (int tc=0; tc < GameConfig.MAP_COLS; tc++)
+            {
+                int code=rd.tiles[tr][tc];
+                solid[tr][tc]=CollisionGrid.isSolidCode(code);
+
+                //doors are placed from the border runs below
+                if (code == GameConfig.FLOOR || code == GameConfig.DOOR)
+                {
+                    continue;
+                }
+
+                int x1=GameConfig.tileLeft(tc);
+                int x2=GameConfig.tileRight(tc);
+                int y1=GameConfig.tileTop(tr);
+                int y2=GameConfig.tileBottom(tr);
+
+                int w=x2 - x1;
+                int h=y2 - y1;
+
+                //centre x y for adding objects
+                pieces.add(new int[]{code, tr, tc, x1 + w / 2, y1 + h / 2, w, h});
+            }
+        }
+
+        planDoors(rd);
+    }
+
+    /**
+     * @return true if the room's tiles have not changed since the plan was built
+     */
+    public boolean isCurrent(GameMap map)
+    {
+        if (map != this.map) return false;
+
+        RoomData rd=map.getRoomData(r, c);
+        return rd == null || rd.getVersion() == version;
+    }
+
+    /**
+     * Doors go where a neighbour room exists
+     * and the tile layout has DOOR markers on that edge.
+     */
+    private void planDoors(RoomData rd)
+    {
+        //UP edge (row 0): look for DOOR markers on the top border
+        if (map.hasRoom(r - 1, c))
+        {
+            int x=findDoorCentreX(rd, 0);
+            if (x != -1)
+            {
+                doors.add(new int[]{-1, 0, x, GameConfig.tileCenterY(0)});
+            }
+        }
+
+        //DOWN edge (last row)
+        if (map.hasRoom(r + 1, c))
+        {
+            int tr=GameConfig.MAP_ROWS - 1;
+            int x=findDoorCentreX(rd, tr);
+            if (x != -1)
+            {
+                doors.add(new int[]{1, 0, x, GameConfig.tileCenterY(tr)});
+            }
+        }
+
+        //LEFT edge (col 0)
+        if (map.hasRoom(r, c - 1))
+        {
+            int y=findDoorCenterY(rd, 0);
+            if (y != -1)
+            {
+                doors.add(new int[]{0, -1, GameConfig.tileCenterX(0), y});
+            }
+        }
+
+        //RIGHT edge (last col)
+        if (map.hasRoom(r, c + 1))
+        {
+            int tc=GameConfig.MAP_COLS - 1;
+            int y=findDoorCenterY(rd, tc);
+            if (y != -1)
+            {
+                doors.add(new int[]{0, 1, GameConfig.tileCenterX(tc), y});
+            }
+        }
+    }
+
+    /**
+     * Finds the center X (in pixels) of the FIRST continuous run of DOOR tiles
+     * on a specific row (used for top/bottom borders).
+     *
+     * @param rd the room data
+     * @param tr which row (0 for top, MAP_ROWS-1 for bottom)
+     * @return center X in pixels, or -1 if no DOOR tiles on that edge
+     */
+    private static int findDoorCentreX(RoomData rd, int tr)
+    {
+        int start=-1;
+        int end=-1;
+
+        for (int tc=0; tc < GameConfig.MAP_COLS; tc++)
+        {
+            if (rd.tiles[tr][tc] == GameConfig.DOOR)
+            {
+                if (start == -1) start=tc;
+                end=tc;
+            }
+            else
+            {
+                //if we already started a run, stop at the first gap
+                if (start != -1) break;
+            }
+        }
+
+        if (start == -1) return -1;
+
+        // center of the run using exact tile math
+        int leftPx=GameConfig.tileLeft(start);
+        int rightPx=GameConfig.tileRight(end);
+        return leftPx + (rightPx - leftPx) / 2;
+    }
+
+    /**
+     * Finds the center Y (in pixels) of the FIRST continuous run of DOOR tiles
+     * on a specific column (used for left/right borders).
+     *
+     * @param rd the room data
+     * @param tc which column (0 for left, MAP_COLS-1 for right)
+     * @return center Y in pixels, or -1 if no DOOR tiles on that edge
+     */
+    private static int findDoorCenterY(RoomData rd, int tc)
+    {
+        int start=-1;
+        int end=-1;
+
+        for (int tr=0; tr < GameConfig.MAP_ROWS; tr++)
+        {
+            if (rd.tiles[tr][tc] == GameConfig.DOOR)
+            {
+                if (start == -1) start=tr;
+                end=tr;
+            }
+            else
+            {
+                if (start != -1) break;
+            }
+        }
+
+        if (start == -1) return -1;
+
+        int topPx=GameConfig.tileTop(start);
+        int bottomPx=GameConfig.tileBottom(end);
+        return topPx + (bottomPx - topPx) / 2;
+    }
+}
@@ -0,0 +1,199 @@
+import java.util.ArrayList;
+
+/**
+ * RoomPrefetcher prepares the rooms next to the current one
+ * on its own thread while the player is still in the current room.
+ *
+ * - RoomPlan: colliders, wall/decoration positions, door positions
+ * - the composited background (RoomRenderer.roomBg)
+ *
+ * When the player walks through a Door, GameWorld.loadRoom takes the
+ * ready plan and only adds the actors on the game thread.
+ * Actors are never made here, Greenfoot expects that on the game thread.
+ * Enemy spawn points are still rolled in loadRoom, so the seeded
+ * GameRandom stream is drawn in the same order as before.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class RoomPrefetcher
+{
+    //guards everything below
+    private static final Object LOCK=new Object();
+
+    //rooms waiting to be prepared, r * cols + c
+    private static ArrayList<Integer> queue=new ArrayList<Integer>();
+
+    //finished plans, at most the 4 neighbours of the current room
+    private static ArrayList<RoomPlan> ready=new ArrayList<RoomPlan>();
+
+    //map and world size the queued rooms belong to
+    private static GameMap map=null;
+    private static int worldW;
+    private static int worldH;
+
+    //room the player is in
+    private static int currentR;
+    private static int currentC;
+
+    private static Thread worker=null;
+
+    /**
+     * Queues the neighbours of room r, c and drops plans for any other room.
+     * Call on the game thread once room r, c is loaded.
+     */
+    public static void prefetchNeighbours(GameMap gameMap, int r, int c, int width, int height)
+    {
+        synchronized (LOCK)
+        {
+            if (gameMap != map)
+            {
+                ready.clear();
+            }
+            map=gameMap;
+            currentR=r;
+            currentC=c;
+            worldW=width;
+            worldH=height;
+
+            queue.clear();
+            for (int i=ready.size() - 1; i >= 0; i--)
+            {
+                RoomPlan p=ready.get(i);
+                if (Math.abs(p.r - r) + Math.abs(p.c - c) != 1)
+                {
+                    ready.remove(i);
+                }
+            }
+
+            queueRoom(r - 1, c);
+            queueRoom(r + 1, c);
+            queueRoom(r, c - 1);
+            queueRoom(r, c + 1);
+
+            if (!queue.isEmpty())
+            {
+                startWorkerIfNeeded();
+                LOCK.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return the prepared plan of room r, c, or a new one built now
+     *         if it is not ready or its tiles changed since
+     */
+    public static RoomPlan take(GameMap gameMap, int r, int c)
+    {
+        synchronized (LOCK)
+        {
+            for (int i=0; i < ready.size(); i++)
+            {
+                RoomPlan p=ready.get(i);
+                if (p.r == r && p.c == c)
+                {
+                    ready.remove(i);
+                    if (p.isCurrent(gameMap))
+                    {
+                        return p;
+                    }
+                    break;
+                }
+            }
+        }
+        return new RoomPlan(gameMap, r, c);
+    }
+
+    //LOCK is held
+    private static void dropReady(int r, int c)
+    {
+        for (int i=ready.size() - 1; i >= 0; i--)
+        {
+            RoomPlan p=ready.get(i);
+            if (p.r == r && p.c == c)
+            {
+                ready.remove(i);
+            }
+        }
+    }
+
+    //LOCK is held
+    private static void queueRoom(int r, int c)
+    {
+        if (!map.hasRoom(r, c)) return;
+
+        for (RoomPlan p : ready)
+        {
+            if (p.r == r && p.c == c && p.isCurrent(map)) return;
+        }
+        queue.add(r * map.getCols() + c);
+    }
+
+    private static void startWorkerIfNeeded()
+    {
+        if (worker != null && worker.isAlive()) return;
+
+        worker=new Thread(new Runnable()
+        {
+            public void run()
+            {
+                prepareLoop();
+            }
+        }, "room-prefetch");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MIN_PRIORITY);
+        worker.start();
+    }
+
+    private static void prepareLoop()
+    {
+        while (true)
+        {
+            GameMap m;
+            int cell;
+            int w;
+            int h;
+            synchronized (LOCK)
+            {
+                while (queue.isEmpty())
+                {
+                    try
+                    {
+                        LOCK.wait();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                }
+                cell=queue.remove(0);
+                m=map;
+                w=worldW;
+                h=worldH;
+            }
+
+            int r=cell / m.getCols();
+            int c=cell % m.getCols();
+            try
+            {
+                RoomPlan plan=new RoomPlan(m, r, c);
+                RoomRenderer.roomBg(m.getBgName(r, c), w, h);
+
+                synchronized (LOCK)
+                {
+                    //the player may have moved on meanwhile
+                    if (m == map && Math.abs(r - currentR) + Math.abs(c - currentC) == 1)
+                    {
+                        dropReady(r, c);
+                        ready.add(plan);
+                    }
+                }
+            }
+            catch (Exception e)
+            {
+                //loadRoom builds it itself then
+                System.out.println("Could not prepare room " + r + "," + c + ": " + e);
+            }
+        }
+    }
+}
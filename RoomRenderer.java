@@ -1,4 +1,6 @@
 import greenfoot.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * RoomRenderer draws and builds 
@@ -20,6 +22,21 @@ public class RoomRenderer
     private final GameWorld world;
     private final GameMap map;
 
+    //current room + its 4 neighbours, with room to spare
+    private static final int MAX_ROOM_BGS=8;
+
+    //fully composited backgrounds (room bg + side panel) by bg name + size
+    //access order, so the eldest entry is the least recently used one
+    //nothing draws on the world background, so one image can be shared
+    private static LinkedHashMap<String, GreenfootImage> roomBgs=
+        new LinkedHashMap<String, GreenfootImage>(16, 0.75f, true)
+        {
+            protected boolean removeEldestEntry(Map.Entry<String, GreenfootImage> eldest)
+            {
+                return size() > MAX_ROOM_BGS;
+            }
+        };
+
     public RoomRenderer(GameWorld world, GameMap map) 
     {
         this.world = world;
@@ -31,41 +48,81 @@ public class RoomRenderer
      *  background + side panel
      *  doors on the border
      *  tile-based objects.
+     *
+     * @param plan  positions worked out from the tiles,
+     *              usually prepared by RoomPrefetcher
      */
-    public void buildRoom(int r, int c) 
+    public void buildRoom(int r, int c, RoomPlan plan) 
     {
         loadRoomBg(r, c);
-        addBorderDoors(r, c);
-        buildObjectsFromTiles(r, c);
+        addBorderDoors(plan);
+        buildObjectsFromTiles(plan);
         buildShopObjects(r, c); //shop objects can't be build from tiles
+
+        //doors the last room had but this one does not
+        world.getRoomActors().endRoom();
     }
     private void loadRoomBg(int r, int c)
     {
-        GreenfootImage bg = new GreenfootImage(world.getWidth(), world.getHeight());
+        world.setBackground(roomBg(map.getBgName(r, c), world.getWidth(), world.getHeight()));
+    }
+    /**
+     * @return the composited background for bgName, from the cache or built now
+     *
+     * Also called by RoomPrefetcher's thread for the neighbour rooms,
+     * so walking through a door only swaps the background.
+     */
+    public static GreenfootImage roomBg(String bgName, int width, int height)
+    {
+        String key = bgName + "|" + width + "x" + height;
+        GreenfootImage bg;
+        synchronized (roomBgs)
+        {
+            bg = roomBgs.get(key);
+        }
+        if (bg == null)
+        {
+            //built outside the lock so the game thread never waits on a neighbour
+            bg = buildRoomBg(bgName, width, height);
+            synchronized (roomBgs)
+            {
+                roomBgs.put(key, bg);
+            }
+        }
+        return bg;
+    }
+    private static GreenfootImage buildRoomBg(String bgName, int width, int height)
+    {
+        GreenfootImage bg = new GreenfootImage(width, height);
     
         //side panel area
         int panelX = GameConfig.ROOM_X + GameConfig.ROOM_W;
-        int panelW = world.getWidth() - panelX;
+        int panelW = width - panelX;
     
         bg.setColor(new Color(40, 40, 40));
-        bg.fillRect(panelX, 0, panelW, world.getHeight());
+        bg.fillRect(panelX, 0, panelW, height);
     
         //draw the room background to cover the entire room area
-        String bgName = map.getBgName(r, c);
         if (bgName != null) 
         {
+            GameEvents.AssetDecode event = new GameEvents.AssetDecode();
+            event.begin();
             GreenfootImage roomBg = new GreenfootImage(bgName);
     
-            roomBg.scale(panelX, world.getHeight());
+            roomBg.scale(panelX, height);
+            event.path = bgName;
+            event.width = panelX;
+            event.height = height;
+            event.commit();
             bg.drawImage(roomBg, 0, 0);
         } 
         else 
         {
             //no bg file
             bg.setColor(Color.DARK_GRAY);
-            bg.fillRect(0, 0, panelX, world.getHeight());
+            bg.fillRect(0, 0, panelX, height);
         }
-        world.setBackground(bg);
+        return bg;
     }
     /**
      * shop objects can't be build from tiles
@@ -88,213 +145,101 @@ public class RoomRenderer
         
         StoneSkill stoneSkill = new StoneSkill(260,210);
         world.addObject(stoneSkill, 750,550);
+        
+        //upgrades are Blockers but not tiles
+        CollisionGrid grid = world.getCollisionGrid();
+        grid.addBlocker(attackUpgrade);
+        grid.addBlocker(healthUpgrade);
+        grid.addBlocker(stoneSkill);
     }
     /**
-     * Builds wall, blockers using the RoomData tile layout.
+     * Builds wall, blockers using the RoomData tile layout,
+     * at the positions in the plan.
      */
-    private void buildObjectsFromTiles(int r, int c)
+    private void buildObjectsFromTiles(RoomPlan plan)
     {
-        RoomData rd = map.getRoomData(r, c);
+        RoomData rd = map.getRoomData(plan.r, plan.c);
         if (rd == null) return;
     
-        for (int tr = 0; tr < GameConfig.MAP_ROWS; tr++)
+        for (int[] piece : plan.pieces)
         {
-            for (int tc = 0; tc < GameConfig.MAP_COLS; tc++)
+            int code = piece[RoomPlan.CODE];
+            int tr = piece[RoomPlan.TR];
+            int tc = piece[RoomPlan.TC];
+            int x = piece[RoomPlan.X];
+            int y = piece[RoomPlan.Y];
+            int w = piece[RoomPlan.W];
+            int h = piece[RoomPlan.H];
+
+            if (RoomActors.isWallCode(code))
             {
-                int code = rd.tiles[tr][tc];
-    
-                int x1 = GameConfig.tileLeft(tc);
-                int x2 = GameConfig.tileRight(tc);
-                int y1 = GameConfig.tileTop(tr);
-                int y2 = GameConfig.tileBottom(tr);
-    
-                int w = x2 - x1;
-                int h = y2 - y1;
-                
-                //centre x y for adding objects
-                int x = x1 + w / 2;
-                int y = y1 + h / 2;
-            
-                if (code == GameConfig.DOOR) 
-                {
-                    //use addBorderDoors
-                    continue;
-                }
-    
-                if (code == GameConfig.INTERIOR_WALL)
-                {
-                    world.addObject(new InteriorWall(w, h), x, y);
-                }
-                else if (code == GameConfig.EXTERIOR_WALL)
-                {
-                    world.addObject(new ExteriorWall(w, h), x, y);
-                }
-                else if (code == GameConfig.COIN) 
-                {
-                    world.addObject(new Coin(rd,r, c, tr, tc), x, y);
-                }
-                else if (code == GameConfig.STATUE) 
-                {
-                    Statue s = new Statue(w,h);
-                    //to allow status to sit 
-                    //on the floor" instead of centered
-                    int dy = (s.getImage().getHeight() / 2) - (h / 2);
-                    world.addObject(s, x, y-dy);
-                }
-                else if (code == GameConfig.LION_RIGHT) 
-                {
-                    LionRight lion = new LionRight(w,h);
-                    
-                    //to allow status to sit 
-                    //on the floor" instead of centered
-                    int dy = (lion.getImage().getHeight() / 2) - (h / 2);
-                    
-                    world.addObject(lion, x, y-dy);          
-                }
-                else if (code == GameConfig.LION_LEFT) 
-                {
-                    LionLeft lion = new LionLeft(w,h);
-                    
-                    //to allow status to sit 
-                    //on the floor" instead of centered
-                    int dy = (lion.getImage().getHeight() / 2) - (h / 2);
-                    
-                    world.addObject(lion, x, y-dy); 
-                }
-                else if (code == GameConfig.FIRE) 
-                {
-                    Fire fire = new Fire(w,h);
-                    
-                    int dy = (fire.getImage().getHeight() / 2) - (h / 2);
-                    
-                    world.addObject(fire, x, y-dy);
-                }
+                //kept from the last room when it had the same wall here
+                world.getRoomActors().placeWall(code, tr, tc, w, h, x, y);
             }
-        }
-    }
-    /**
-     * Places Door actors based on:
-     *   Neighbor room exists in the RoomMap grid
-     *   The tile layout has DOOR (3) markers on the edge.
-     */
-    private void addBorderDoors(int r, int c)
-    {
-        RoomData rd = map.getRoomData(r, c);
-        if (rd == null) return;
-    
-        //UP edge (row 0): look for DOOR markers on the top border
-        if (map.hasRoom(r - 1, c))
-        {
-            int x = findDoorCentreX(rd, 0);
-            if (x != -1)
+            else if (code == GameConfig.COIN) 
             {
-                int y = GameConfig.tileCenterY(0);
-                world.addObject(new Door("UP", -1, 0), x, y);
+                world.addObject(new Coin(rd,plan.r, plan.c, tr, tc), x, y);
             }
-        }
-    
-        //DOWN edge (last row)
-        if (map.hasRoom(r + 1, c))
-        {
-            int tr = GameConfig.MAP_ROWS - 1;
-            int x = findDoorCentreX(rd, tr);
-            if (x != -1)
+            else if (code == GameConfig.STATUE) 
             {
-                int y = GameConfig.tileCenterY(tr);
-                world.addObject(new Door("DOWN", 1, 0), x, y);
+                Statue s = new Statue(w,h);
+                //to allow status to sit 
+                //on the floor" instead of centered
+                int dy = (s.getImage().getHeight() / 2) - (h / 2);
+                world.addObject(s, x, y-dy);
             }
-        }
-    
-        //LEFT edge (col 0)
-        if (map.hasRoom(r, c - 1))
-        {
-            int y = findDoorCenterY(rd, 0);
-            if (y != -1)
-            {
-                int x = GameConfig.tileCenterX(0);
-                world.addObject(new Door("LEFT", 0, -1), x, y);
-            }
-        }
-    
-        //RIGHT edge (last col)
-        if (map.hasRoom(r, c + 1))
-        {
-            int tc = GameConfig.MAP_COLS - 1;
-            int y = findDoorCenterY(rd, tc);
-            if (y != -1)
+            else if (code == GameConfig.LION_RIGHT) 
             {
-                int x = GameConfig.tileCenterX(tc);
-                world.addObject(new Door("RIGHT", 0, 1), x, y);
+                LionRight lion = new LionRight(w,h);
+                
+                //to allow status to sit 
+                //on the floor" instead of centered
+                int dy = (lion.getImage().getHeight() / 2) - (h / 2);
+                
+                world.addObject(lion, x, y-dy);          
             }
-        }
-    }
-
-    /**
-     * Finds the center X (in pixels) of the FIRST continuous run of DOOR tiles
-     * on a specific row (used for top/bottom borders).
-     *
-     * @param rd the room data
-     * @param tr which row (0 for top, MAP_ROWS-1 for bottom)
-     * @return center X in pixels, or -1 if no DOOR tiles on that edge
-     */
-    private int findDoorCentreX(RoomData rd, int tr)
-    {
-        int start = -1;
-        int end = -1;
-    
-        for (int tc = 0; tc < GameConfig.MAP_COLS; tc++)
-        {
-            if (rd.tiles[tr][tc] == GameConfig.DOOR)
+            else if (code == GameConfig.LION_LEFT) 
             {
-                if (start == -1) start = tc;
-                end = tc;
+                LionLeft lion = new LionLeft(w,h);
+                
+                //to allow status to sit 
+                //on the floor" instead of centered
+                int dy = (lion.getImage().getHeight() / 2) - (h / 2);
+                
+                world.addObject(lion, x, y-dy); 
             }
-            else
+            else if (code == GameConfig.FIRE) 
             {
-                //if we already started a run, stop at the first gap
-                if (start != -1) break;
+                Fire fire = new Fire(w,h);
+                
+                int dy = (fire.getImage().getHeight() / 2) - (h / 2);
+                
+                world.addObject(fire, x, y-dy);
             }
         }
-    
-        if (start == -1) return -1;
-    
-        // center of the run using exact tile math
-        int leftPx = GameConfig.tileLeft(start);
-        int rightPx = GameConfig.tileRight(end);
-        return leftPx + (rightPx - leftPx) / 2;
     }
-    
     /**
-     * Finds the center Y (in pixels) of the FIRST continuous run of DOOR tiles
-     * on a specific column (used for left/right borders).
-     *
-     * @param rd the room data
-     * @param tc which column (0 for left, MAP_COLS-1 for right)
-     * @return center Y in pixels, or -1 if no DOOR tiles on that edge
+     * Places the Door actors the plan found:
+     *   Neighbor room exists in the RoomMap grid
+     *   The tile layout has DOOR (3) markers on the edge.
      */
-    private int findDoorCenterY(RoomData rd, int tc)
+    private void addBorderDoors(RoomPlan plan)
     {
-        int start = -1;
-        int end = -1;
-    
-        for (int tr = 0; tr < GameConfig.MAP_ROWS; tr++)
+        for (int[] d : plan.doors)
         {
-            if (rd.tiles[tr][tc] == GameConfig.DOOR)
-            {
-                if (start == -1) start = tr;
-                end = tr;
-            }
-            else
-            {
-                if (start != -1) break;
-            }
+            int dr = d[RoomPlan.DOOR_DR];
+            int dc = d[RoomPlan.DOOR_DC];
+
+            String name;
+            if (dr == -1) name = "UP";
+            else if (dr == 1) name = "DOWN";
+            else if (dc == -1) name = "LEFT";
+            else name = "RIGHT";
+
+            //the last room's door in the same direction is moved, not rebuilt
+            Door door = world.getRoomActors().placeDoor(name, dr, dc, d[RoomPlan.DOOR_X], d[RoomPlan.DOOR_Y]);
+            world.getCollisionGrid().addDoor(door);
         }
-    
-        if (start == -1) return -1;
-    
-        int topPx = GameConfig.tileTop(start);
-        int bottomPx = GameConfig.tileBottom(end);
-        return topPx + (bottomPx - topPx) / 2;
     }
 
     /**
@@ -0,0 +1,250 @@
+/**
+ * RoomRules holds the timed rules of the current room
+ * (combat timer, trap rush timer, dodge timer) as plain Java state.
+ *
+ * - it does not touch greenfoot, so it can be stepped without a World
+ *   (RoomSimulator runs the timers over many rooms that way)
+ * - step() advances every active timer by one frame
+ *   and returns what happened as event flags
+ * - GameWorld shows the messages, plays the sounds
+ *   and applies damage/rewards for each event
+ *
+ * Only the timers live here, positions, health and combat
+ * are still kept by the Greenfoot actors.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class RoomRules
+{
+    //event flags returned by step()
+    public static final int COMBAT_TIME_UP=1;
+    public static final int TRAP_FAILED=2;
+    public static final int DODGE_SURVIVED=4;
+
+    private final GameMap map;
+
+    //combat room
+    private boolean combatActive=false;
+    private int combatFrames=0;
+
+    //trap room
+    private boolean trapActive=false;
+    private int trapFrames=0;
+    private boolean trapPenaltyDone=false;
+
+    //dodge room
+    private boolean dodgeActive=false;
+    private int dodgeFrames=0;
+
+    //room the rules were started for
+    private int roomR=-1;
+    private int roomC=-1;
+
+    public RoomRules(GameMap map)
+    {
+        this.map=map;
+    }
+
+    /**
+     * Starts the rush timer if (r, c) is a trap room not cleared yet.
+     * Stops any trap timer from the previous room.
+     *
+     * @return true if the trap started
+     */
+    public boolean startTrapIfNeeded(int r, int c)
+    {
+        roomR=r;
+        roomC=c;
+        trapActive=false;
+        trapPenaltyDone=false;
+        trapFrames=0;
+
+        //second time here, it won't trigger
+        if (map.isTrapRoom(r, c) && !map.isCleared(r, c))
+        {
+            trapActive=true;
+            trapFrames=GameConfig.TRAP_TIME_FRAMES;
+        }
+        return trapActive;
+    }
+
+    /**
+     * Starts the dodge timer if (r, c) is a dodge room not cleared yet.
+     *
+     * @return true if the dodge timer started
+     */
+    public boolean startDodgeIfNeeded(int r, int c)
+    {
+        roomR=r;
+        roomC=c;
+        dodgeActive=false;
+        dodgeFrames=0;
+
+        if (map.getRoomType(r, c) == 'D' && !map.isCleared(r, c))
+        {
+            dodgeActive=true;
+            dodgeFrames=GameConfig.DODGE_TIME_FRAMES;
+        }
+        return dodgeActive;
+    }
+
+    /**
+     * Starts the combat timer for a combat room that is not cleared yet.
+     * Must be called after the enemies are spawned.
+     *
+     * @param enemyCount:   enemies in the room
+     * @param hasBoss:      true if a boss was spawned
+     * @return true if the combat timer started
+     */
+    public boolean startCombatIfNeeded(int r, int c, int enemyCount, boolean hasBoss)
+    {
+        roomR=r;
+        roomC=c;
+        combatActive=false;
+        combatFrames=0;
+
+        //only time normal combat rooms, that still have enemies
+        if (!map.isCombatRoom(r, c) || map.isCleared(r, c) || enemyCount <= 0)
+        {
+            return false;
+        }
+
+        //calculated allowed time
+        int frames=GameConfig.COMBAT_BASE_TIME + enemyCount * GameConfig.COMBAT_PER_ENEMY_TIME;
+        if (frames > GameConfig.COMBAT_MAX_TIME)
+        {
+            frames=GameConfig.COMBAT_MAX_TIME;
+        }
+        if (hasBoss)
+        {
+            frames=GameConfig.COMBAT_BOSS_TIME;
+        }
+
+        combatActive=true;
+        combatFrames=frames;
+        return true;
+    }
+
+    /**
+     * Advances every active timer by one frame.
+     *
+     * @param enemyCount: enemies left in the room
+     * @return COMBAT_TIME_UP / TRAP_FAILED / DODGE_SURVIVED flags, 0 if nothing happened
+     */
+    public int step(int enemyCount)
+    {
+        int events=0;
+
+        if (combatActive)
+        {
+            //room got cleared, stop the timer
+            if (enemyCount == 0)
+            {
+                combatActive=false;
+                combatFrames=0;
+            }
+            else
+            {
+                combatFrames--;
+                if (combatFrames <= 0)
+                {
+                    combatActive=false;
+                    combatFrames=0;
+                    events |= COMBAT_TIME_UP;
+                }
+            }
+        }
+
+        if (trapActive)
+        {
+            trapFrames--;
+
+            //failed to escape in time
+            //the reward part is in trapEscaped()
+            if (trapFrames <= 0 && !trapPenaltyDone)
+            {
+                trapPenaltyDone=true;
+                trapFrames=0;
+                events |= TRAP_FAILED;
+            }
+        }
+
+        if (dodgeActive)
+        {
+            dodgeFrames--;
+            if (dodgeFrames <= 0)
+            {
+                dodgeActive=false;
+                dodgeFrames=0;
+                if (!map.isCleared(roomR, roomC))
+                {
+                    events |= DODGE_SURVIVED;
+                }
+            }
+        }
+
+        return events;
+    }
+
+    /**
+     * Called when the player leaves a trap room forward (not back).
+     *
+     * @return true if the player beat the rush timer
+     */
+    public boolean trapEscaped()
+    {
+        if (trapActive && trapFrames >= 0)
+        {
+            trapActive=false;
+            trapFrames=0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called when a hazard touches the player in a dodge room.
+     *
+     * @return true if the dodge timer was reset
+     */
+    public boolean dodgeHit()
+    {
+        if (!dodgeActive)
+        {
+            return false;
+        }
+        dodgeFrames=GameConfig.DODGE_TIME_FRAMES;
+        return true;
+    }
+
+    public boolean isCombatActive()
+    {
+        return combatActive;
+    }
+
+    public int getCombatFrames()
+    {
+        return combatFrames;
+    }
+
+    public boolean isTrapActive()
+    {
+        return trapActive;
+    }
+
+    public int getTrapFrames()
+    {
+        return trapFrames;
+    }
+
+    public boolean isDodgeActive()
+    {
+        return dodgeActive;
+    }
+
+    public int getDodgeFrames()
+    {
+        return dodgeFrames;
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * RoomSimulator steps the room timers (GameMap + RoomRules)
+ * over many rooms without Greenfoot, as a regression check in CI.
+ *
+ * Run from the scenario folder, greenfoot.jar is not needed:
+ *   java -cp . RoomSimulator [rooms] [seed]
+ *
+ * Only the timers are the game's own code. Positions, health, the enemy AI
+ * and combat are still in the Greenfoot actors, so the player and enemies
+ * here are dice rolled from a GameRandom of the given seed (not the session one),
+ * and the counts say nothing about how hard the real game is:
+ * - combat rooms: 1 to 6 enemies, one dies every KILL_FRAMES frames
+ *   on average, until cleared or the combat timer runs out
+ * - rush rooms: the player leaves after a random 0 to 2x the rush time
+ * - dodge rooms: a hazard touches the player every DODGE_HIT_FRAMES
+ *   frames on average, resetting the dodge timer
+ *
+ * It prints rooms and frames per second and the outcome counts.
+ * The counts only depend on the seed, so a change to RoomRules or the
+ * GameConfig timings shows up as a different line in the CI log.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class RoomSimulator
+{
+    //average frames between kills in a combat room
+    private static final int KILL_FRAMES=90;
+
+    //average frames between hazard touches in a dodge room
+    private static final int DODGE_HIT_FRAMES=400;
+
+    //a dodge room that is never survived gives up after this
+    private static final int DODGE_GIVE_UP=20 * GameConfig.DODGE_TIME_FRAMES;
+
+    //outcomes
+    private static int roomsCleared=0;
+    private static int combatTimeUps=0;
+    private static int trapsEscaped=0;
+    private static int trapsFailed=0;
+    private static int dodgesSurvived=0;
+    private static int dodgesGivenUp=0;
+    private static int defeats=0;
+    private static long frames=0;
+
+    public static void main(String[] args)
+    {
+        int rooms=(args.length > 0) ? Integer.parseInt(args[0]) : 100000;
+        long seed=(args.length > 1) ? Long.parseLong(args[1]) : 42;
+
+        GameRandom rng=new GameRandom(seed);
+        int hp=GameConfig.DEFAULT_MAX_HP;
+
+        long start=System.nanoTime();
+        int done=0;
+        while (done < rooms)
+        {
+            GameMap map=new GameMap();
+            RoomRules rules=new RoomRules(map);
+
+            for (int r=0; r < map.getRows() && done < rooms; r++)
+            {
+                for (int c=0; c < map.getCols() && done < rooms; c++)
+                {
+                    if (!map.hasRoom(r, c)) continue;
+
+                    if (map.isCombatRoom(r, c))
+                    {
+                        if (!combatRoom(map, rules, rng, r, c))
+                        {
+                            defeats++;
+                            hp=GameConfig.DEFAULT_MAX_HP;
+                        }
+                    }
+                    else if (map.isTrapRoom(r, c))
+                    {
+                        if (!trapRoom(map, rules, rng, r, c))
+                        {
+                            hp -= GameConfig.TRAP_PENALTY_HP;
+                            if (hp <= 0)
+                            {
+                                defeats++;
+                                hp=GameConfig.DEFAULT_MAX_HP;
+                            }
+                        }
+                    }
+                    else if (map.isDodgeRoom(r, c))
+                    {
+                        dodgeRoom(map, rules, rng, r, c);
+                    }
+                    done++;
+                }
+            }
+        }
+        long took=System.nanoTime() - start;
+
+        long ms=Math.max(1, took / 1000000);
+        System.out.println(done + " rooms, " + frames + " frames in " + ms + " ms ("
+                           + (done * 1000L / ms) + " rooms/s, " + (frames * 1000L / ms) + " frames/s)");
+        System.out.println("seed " + seed + ": cleared " + roomsCleared + ", combat time up " + combatTimeUps
+                           + ", rush escaped " + trapsEscaped + ", rush failed " + trapsFailed
+                           + ", dodge survived " + dodgesSurvived + ", dodge given up " + dodgesGivenUp
+                           + ", defeats " + defeats);
+    }
+
+    /**
+     * @return false if the combat timer ran out
+     */
+    private static boolean combatRoom(GameMap map, RoomRules rules, GameRandom rng, int r, int c)
+    {
+        int enemies=1 + rng.next(GameRandom.SPAWN, 6);
+        rules.startCombatIfNeeded(r, c, enemies, false);
+
+        while (rules.isCombatActive())
+        {
+            if (rng.next(GameRandom.AI, KILL_FRAMES) == 0)
+            {
+                enemies--;
+            }
+            int events=rules.step(enemies);
+            frames++;
+            if ((events & RoomRules.COMBAT_TIME_UP) != 0)
+            {
+                combatTimeUps++;
+                return false;
+            }
+        }
+        if (map.markCleared(r, c))
+        {
+            roomsCleared++;
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the rush timer ran out first
+     */
+    private static boolean trapRoom(GameMap map, RoomRules rules, GameRandom rng, int r, int c)
+    {
+        rules.startTrapIfNeeded(r, c);
+        int leaveAt=rng.next(GameRandom.AI, 2 * GameConfig.TRAP_TIME_FRAMES);
+
+        boolean failed=false;
+        for (int f=0; f < leaveAt && rules.isTrapActive(); f++)
+        {
+            int events=rules.step(0);
+            frames++;
+            if ((events & RoomRules.TRAP_FAILED) != 0)
+            {
+                failed=true;
+                break;
+            }
+        }
+        if (failed)
+        {
+            trapsFailed++;
+            return false;
+        }
+        if (rules.trapEscaped() && map.markCleared(r, c))
+        {
+            trapsEscaped++;
+            roomsCleared++;
+        }
+        return true;
+    }
+
+    private static void dodgeRoom(GameMap map, RoomRules rules, GameRandom rng, int r, int c)
+    {
+        rules.startDodgeIfNeeded(r, c);
+
+        for (int f=0; f < DODGE_GIVE_UP && rules.isDodgeActive(); f++)
+        {
+            if (rng.next(GameRandom.AI, DODGE_HIT_FRAMES) == 0)
+            {
+                rules.dodgeHit();
+            }
+            int events=rules.step(0);
+            frames++;
+            if ((events & RoomRules.DODGE_SURVIVED) != 0)
+            {
+                dodgesSurvived++;
+                if (map.markCleared(r, c))
+                {
+                    roomsCleared++;
+                }
+                return;
+            }
+        }
+        dodgesGivenUp++;
+    }
+}
@@ -0,0 +1,323 @@
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * SaveFormat turns GameData + GameMap into bytes and back.
+ * SaveManager does the file part.
+ *
+ * Layout (big endian):
+ * header
+ *   int    MAGIC ("RESC")
+ *   short  VERSION
+ *   short  0 (reserved)
+ *   int    payload length
+ *   int    CRC32 of the payload
+ * payload (version 1)
+ *   12 ints    roomR, roomC, lastRoomR, lastRoomC, roomsCleared, playerHealth,
+ *              coins, score, stones, axe/sword/bullet attack power
+ *   long       seed
+ *   byte x2    map rows, map cols
+ *   bytes      visited bitset, one bit per room, row by row
+ *   bytes      cleared bitset
+ *   short      number of rooms with tiles
+ *   per room   byte r, byte c, byte tileRows, byte tileCols, one byte per tile
+ *
+ * A newer VERSION only adds to the end of the payload,
+ * decode() keeps reading older versions.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class SaveFormat
+{
+    public static final int MAGIC=0x52455343;
+    public static final int VERSION=1;
+    public static final int HEADER_SIZE=16;
+
+    //12 ints + the seed
+    public static final int DATA_SIZE=12 * 4 + 8;
+
+    /**
+     * @return header + payload, ready to be written from position 0
+     */
+    public static ByteBuffer encode(GameData data, GameMap map)
+    {
+        int rows=(map == null) ? 0 : map.getRows();
+        int cols=(map == null) ? 0 : map.getCols();
+        int bitsetBytes=(rows * cols + 7) / 8;
+
+        //work out the size first so the buffer is allocated once
+        int roomCount=0;
+        int tileBytes=0;
+        for (int r=0; r < rows; r++)
+        {
+            for (int c=0; c < cols; c++)
+            {
+                RoomData rd=roomWithTiles(map, r, c);
+                if (rd != null)
+                {
+                    roomCount++;
+                    tileBytes += 4 + rd.tiles.length * rd.tiles[0].length;
+                }
+            }
+        }
+        int payloadSize=DATA_SIZE + 2 + bitsetBytes * 2 + 2 + tileBytes;
+
+        ByteBuffer buf=ByteBuffer.allocate(HEADER_SIZE + payloadSize);
+
+        //header, CRC filled in at the end
+        buf.putInt(MAGIC);
+        buf.putShort((short) VERSION);
+        buf.putShort((short) 0);
+        buf.putInt(payloadSize);
+        buf.putInt(0);
+
+        putData(buf, data);
+        putMapState(buf, map);
+
+        buf.putShort((short) roomCount);
+        for (int r=0; r < rows; r++)
+        {
+            for (int c=0; c < cols; c++)
+            {
+                RoomData rd=roomWithTiles(map, r, c);
+                if (rd == null)
+                {
+                    continue;
+                }
+                buf.put((byte) r);
+                buf.put((byte) c);
+                buf.put((byte) rd.tiles.length);
+                buf.put((byte) rd.tiles[0].length);
+                for (int tr=0; tr < rd.tiles.length; tr++)
+                {
+                    for (int tc=0; tc < rd.tiles[0].length; tc++)
+                    {
+                        buf.put((byte) rd.tiles[tr][tc]);
+                    }
+                }
+            }
+        }
+
+        buf.putInt(12, crc(buf.array(), HEADER_SIZE, payloadSize));
+        buf.flip();
+        return buf;
+    }
+
+    /**
+     * Reads a save, applies visited/cleared/tiles onto map (if not null).
+     *
+     * @param buf:  whole file, from position 0
+     * @param map:  map to apply onto, or null for GameData only
+     * @return the GameData, or null if the bytes are not a valid save
+     */
+    public static GameData decode(ByteBuffer buf, GameMap map)
+    {
+        if (buf.remaining() < HEADER_SIZE || buf.getInt() != MAGIC)
+        {
+            return null;
+        }
+
+        int version=buf.getShort();
+        buf.getShort();
+        int payloadSize=buf.getInt();
+        int crc=buf.getInt();
+
+        if (version < 1 || version > VERSION)
+        {
+            System.out.println("Unknown save version: " + version);
+            return null;
+        }
+        if (payloadSize < 0 || payloadSize > buf.remaining()
+            || crc(buf.array(), buf.position(), payloadSize) != crc)
+        {
+            System.out.println("Save file is damaged");
+            return null;
+        }
+
+        GameData data=new GameData();
+        getData(buf, data);
+
+        if (map == null)
+        {
+            return data;
+        }
+
+        getMapState(buf, map);
+
+        int roomCount=buf.getShort() & 0xFFFF;
+        for (int i=0; i < roomCount; i++)
+        {
+            int r=buf.get() & 0xFF;
+            int c=buf.get() & 0xFF;
+            int tileRows=buf.get() & 0xFF;
+            int tileCols=buf.get() & 0xFF;
+
+            RoomData rd=map.hasRoom(r, c) ? map.getRoomData(r, c) : null;
+            for (int tr=0; tr < tileRows; tr++)
+            {
+                for (int tc=0; tc < tileCols; tc++)
+                {
+                    int code=buf.get();
+                    if (rd != null && tr < rd.tiles.length && tc < rd.tiles[tr].length)
+                    {
+                        rd.tiles[tr][tc]=code;
+                    }
+                }
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Writes the GameData fields, DATA_SIZE bytes.
+     */
+    public static void putData(ByteBuffer buf, GameData data)
+    {
+        buf.putInt(data.roomR);
+        buf.putInt(data.roomC);
+        buf.putInt(data.lastRoomR);
+        buf.putInt(data.lastRoomC);
+        buf.putInt(data.roomsCleared);
+        buf.putInt(data.playerHealth);
+        buf.putInt(data.coins);
+        buf.putInt(data.score);
+        buf.putInt(data.stones);
+        buf.putInt(data.axeAttackPower);
+        buf.putInt(data.swordAttackPower);
+        buf.putInt(data.bulletAttackPower);
+        buf.putLong(data.seed);
+    }
+
+    /**
+     * Reads what putData() wrote into data.
+     */
+    public static void getData(ByteBuffer buf, GameData data)
+    {
+        data.roomR=buf.getInt();
+        data.roomC=buf.getInt();
+        data.lastRoomR=buf.getInt();
+        data.lastRoomC=buf.getInt();
+        data.roomsCleared=buf.getInt();
+        data.playerHealth=buf.getInt();
+        data.coins=buf.getInt();
+        data.score=buf.getInt();
+        data.stones=buf.getInt();
+        data.axeAttackPower=buf.getInt();
+        data.swordAttackPower=buf.getInt();
+        data.bulletAttackPower=buf.getInt();
+        data.seed=buf.getLong();
+    }
+
+    /**
+     * @return bytes putMapState() writes for this map
+     */
+    public static int mapStateSize(GameMap map)
+    {
+        int rows=(map == null) ? 0 : map.getRows();
+        int cols=(map == null) ? 0 : map.getCols();
+        return 2 + (rows * cols + 7) / 8 * 2;
+    }
+
+    /**
+     * Writes map rows/cols and the visited/cleared bitsets.
+     */
+    public static void putMapState(ByteBuffer buf, GameMap map)
+    {
+        int rows=(map == null) ? 0 : map.getRows();
+        int cols=(map == null) ? 0 : map.getCols();
+        int bitsetBytes=(rows * cols + 7) / 8;
+
+        buf.put((byte) rows);
+        buf.put((byte) cols);
+        putBits(buf, map, rows, cols, bitsetBytes, true);
+        putBits(buf, map, rows, cols, bitsetBytes, false);
+    }
+
+    /**
+     * Reads what putMapState() wrote, sets visited/cleared on map (if not null).
+     */
+    public static void getMapState(ByteBuffer buf, GameMap map)
+    {
+        int rows=buf.get() & 0xFF;
+        int cols=buf.get() & 0xFF;
+        int bitsetBytes=(rows * cols + 7) / 8;
+        int visitedAt=buf.position();
+        int clearedAt=visitedAt + bitsetBytes;
+        buf.position(clearedAt + bitsetBytes);
+
+        if (map == null)
+        {
+            return;
+        }
+
+        for (int r=0; r < rows; r++)
+        {
+            for (int c=0; c < cols; c++)
+            {
+                if (r >= map.getRows() || c >= map.getCols())
+                {
+                    continue;
+                }
+                int bit=r * cols + c;
+                if (getBit(buf, visitedAt, bit))
+                {
+                    map.setVisited(r, c);
+                }
+                if (getBit(buf, clearedAt, bit))
+                {
+                    map.markCleared(r, c);
+                }
+            }
+        }
+    }
+
+    private static RoomData roomWithTiles(GameMap map, int r, int c)
+    {
+        if (!map.hasRoom(r, c))
+        {
+            return null;
+        }
+        RoomData rd=map.getRoomData(r, c);
+        if (rd == null || rd.tiles == null || rd.tiles.length == 0)
+        {
+            return null;
+        }
+        return rd;
+    }
+
+    private static void putBits(ByteBuffer buf, GameMap map, int rows, int cols, int bitsetBytes, boolean visited)
+    {
+        int start=buf.position();
+        for (int i=0; i < bitsetBytes; i++)
+        {
+            buf.put((byte) 0);
+        }
+        for (int r=0; r < rows; r++)
+        {
+            for (int c=0; c < cols; c++)
+            {
+                boolean set=visited ? map.wasVisited(r, c) : map.isCleared(r, c);
+                if (set)
+                {
+                    int bit=r * cols + c;
+                    int at=start + bit / 8;
+                    buf.put(at, (byte) (buf.get(at) | (1 << (bit % 8))));
+                }
+            }
+        }
+    }
+
+    private static boolean getBit(ByteBuffer buf, int start, int bit)
+    {
+        return (buf.get(start + bit / 8) & (1 << (bit % 8))) != 0;
+    }
+
+    public static int crc(byte[] bytes, int offset, int length)
+    {
+        CRC32 crc=new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
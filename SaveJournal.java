@@ -0,0 +1,167 @@
+import java.nio.ByteBuffer;
+
+/**
+ * SaveJournal records only what changed since the last save,
+ * so an autosave costs about the same on a big map as on a small one.
+ *
+ * save.dat is the base snapshot (SaveFormat), save.jnl is appended to.
+ * Loading reads the base, then replays every journal record in order.
+ * AutoSaver writes a new base and empties the journal every
+ * GameConfig.JOURNAL_COMPACT_RECORDS records (compaction).
+ *
+ * Record layout (big endian):
+ *   int    payload length
+ *   int    CRC32 of the payload
+ * payload
+ *   GameData       SaveFormat.putData, always (it is small)
+ *   byte           1 if visited/cleared follow, else 0
+ *   map state      SaveFormat.putMapState, only if the byte above is 1
+ *   short          number of changed tiles
+ *   per tile       byte r, byte c, byte tr, byte tc, byte code
+ *
+ * A record cut short by a crash fails its CRC,
+ * replay stops there and keeps everything before it.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class SaveJournal
+{
+    private static final int RECORD_HEADER=8;
+    private static final int TILE_ENTRY=5;
+
+    /**
+     * Builds one record from GameData and the dirty parts of map.
+     * Does not clear the dirty flags, the caller does that.
+     *
+     * @return the record, ready to be appended from position 0
+     */
+    public static ByteBuffer encodeRecord(GameData data, GameMap map)
+    {
+        boolean stateDirty=(map != null && map.isStateDirty());
+
+        //count changed tiles, only dirty rooms are scanned
+        int tileCount=0;
+        int rows=(map == null) ? 0 : map.getRows();
+        int cols=(map == null) ? 0 : map.getCols();
+        for (int r=0; r < rows; r++)
+        {
+            for (int c=0; c < cols; c++)
+            {
+                RoomData rd=dirtyRoom(map, r, c);
+                if (rd == null) continue;
+
+                for (int tr=0; tr < rd.tiles.length; tr++)
+                {
+                    for (int tc=0; tc < rd.tiles[tr].length; tc++)
+                    {
+                        if (rd.isTileDirty(tr, tc)) tileCount++;
+                    }
+                }
+            }
+        }
+
+        int payloadSize=SaveFormat.DATA_SIZE + 1
+                        + (stateDirty ? SaveFormat.mapStateSize(map) : 0)
+                        + 2 + tileCount * TILE_ENTRY;
+
+        ByteBuffer buf=ByteBuffer.allocate(RECORD_HEADER + payloadSize);
+        buf.putInt(payloadSize);
+        buf.putInt(0);
+
+        SaveFormat.putData(buf, data);
+        buf.put((byte) (stateDirty ? 1 : 0));
+        if (stateDirty)
+        {
+            SaveFormat.putMapState(buf, map);
+        }
+
+        buf.putShort((short) tileCount);
+        for (int r=0; r < rows; r++)
+        {
+            for (int c=0; c < cols; c++)
+            {
+                RoomData rd=dirtyRoom(map, r, c);
+                if (rd == null) continue;
+
+                for (int tr=0; tr < rd.tiles.length; tr++)
+                {
+                    for (int tc=0; tc < rd.tiles[tr].length; tc++)
+                    {
+                        if (!rd.isTileDirty(tr, tc)) continue;
+
+                        buf.put((byte) r);
+                        buf.put((byte) c);
+                        buf.put((byte) tr);
+                        buf.put((byte) tc);
+                        buf.put((byte) rd.tiles[tr][tc]);
+                    }
+                }
+            }
+        }
+
+        buf.putInt(4, SaveFormat.crc(buf.array(), RECORD_HEADER, payloadSize));
+        buf.flip();
+        return buf;
+    }
+
+    /**
+     * Replays journal records onto data and map.
+     *
+     * @param buf:  whole journal file, from position 0
+     * @param data: GameData loaded from the base, updated in place
+     * @param map:  map loaded from the base, or null for GameData only
+     * @return number of records applied
+     */
+    public static int replay(ByteBuffer buf, GameData data, GameMap map)
+    {
+        int applied=0;
+        while (buf.remaining() >= RECORD_HEADER)
+        {
+            int start=buf.position();
+            int payloadSize=buf.getInt();
+            int crc=buf.getInt();
+            if (payloadSize < 0 || payloadSize > buf.remaining()
+                || SaveFormat.crc(buf.array(), buf.position(), payloadSize) != crc)
+            {
+                System.out.println("Save journal ends with a damaged record, ignored");
+                break;
+            }
+
+            SaveFormat.getData(buf, data);
+            if (buf.get() != 0)
+            {
+                SaveFormat.getMapState(buf, map);
+            }
+
+            int tileCount=buf.getShort() & 0xFFFF;
+            for (int i=0; i < tileCount; i++)
+            {
+                int r=buf.get() & 0xFF;
+                int c=buf.get() & 0xFF;
+                int tr=buf.get() & 0xFF;
+                int tc=buf.get() & 0xFF;
+                int code=buf.get();
+
+                RoomData rd=(map != null && map.hasRoom(r, c)) ? map.getRoomData(r, c) : null;
+                if (rd != null && tr < rd.tiles.length && tc < rd.tiles[tr].length)
+                {
+                    rd.tiles[tr][tc]=code;
+                }
+            }
+
+            buf.position(start + RECORD_HEADER + payloadSize);
+            applied++;
+        }
+        return applied;
+    }
+
+    private static RoomData dirtyRoom(GameMap map, int r, int c)
+    {
+        if (!map.hasRoom(r, c)) return null;
+
+        RoomData rd=map.getRoomData(r, c);
+        if (rd == null || !rd.isDirty()) return null;
+        return rd;
+    }
+}
@@ -1,8 +1,17 @@
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 import java.util.Scanner;
 
 /**
- * SaveManager reads/writes simple save data to a text file.
+ * SaveManager reads/writes save data.
+ *
+ * Saves are written in the binary format of SaveFormat (save.dat).
+ * Autosaves may append only the changes to save.jnl (SaveJournal),
+ * loading replays them on top of save.dat.
+ * The old text file (save.txt) is still read if there is no binary save,
+ * the next save then writes save.dat and removes save.txt.
  *
  * Saved data 
  * - roomR, roomC
@@ -10,7 +19,7 @@ import java.util.Scanner;
  * - cleared grid
  * - lastRoomR,lastRoomC
  *
- * File format example:
+ * Old text file format example:
  * roomR=1
  * roomC=2
  * visited=1101/0111/0101/1111
@@ -21,6 +30,7 @@ import java.util.Scanner;
  * stones=1;
  * tiles=0,0:2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2/2,1.....,0,.....2,2,2
  * axeAttackPower=10;
+ * seed=-4962768465676381896
  * 
  * @author: Owen Kung,Cartis Lee
  * @version Jan 2026
@@ -28,6 +38,9 @@ import java.util.Scanner;
  */
 public class SaveManager
 {
+    //held while save.dat is written or deleted
+    //so the autosave thread and the game thread never write at the same time
+    public static final Object WRITE_LOCK = new Object();
 
     /**
      * @return true if a save file exists
@@ -37,10 +50,15 @@ public class SaveManager
         //simple check
         //no exception to catch
         //because has not tried to read files.
+        File bin = new File(GameConfig.SAVE_BIN_FILE);
         File file = new File(GameConfig.SAVE_FILE);
         
         //check to see if file exists
         //and file size >0
+        if(bin.exists() && bin.length()>0)
+        {
+            return true;
+        }
         if(file.exists() && file.length()>0)
         {
             return true;
@@ -53,6 +71,27 @@ public class SaveManager
      */
     public static void deleteSave()
     {
+        //a pending autosave must not bring the save back
+        AutoSaver.cancel();
+        AutoSaver.needFullSave();
+
+        synchronized (WRITE_LOCK)
+        {
+            deleteFiles();
+        }
+    }
+    private static void deleteFiles()
+    {
+        File bin = new File(GameConfig.SAVE_BIN_FILE);
+        if (bin.exists())
+        {
+            bin.delete();
+        }
+        File jnl = new File(GameConfig.SAVE_JOURNAL_FILE);
+        if (jnl.exists())
+        {
+            jnl.delete();
+        }
         File f = new File(GameConfig.SAVE_FILE);
         if (f.exists())
         {
@@ -64,46 +103,140 @@ public class SaveManager
      * Saves progress to file using SaveData.
      *
      * @param data all info to save
+     * @param map  visited/cleared/tiles to save, can be null
      */
     public static void save(GameData data, GameMap map)
     {
         if (data == null) return;
-    
+
+        GameEvents.Save event = new GameEvents.Save();
+        event.begin();
+
+        //this save is newer than any pending autosave
+        AutoSaver.cancel();
+
+        ByteBuffer buf = SaveFormat.encode(data, map);
+        event.kind = "save";
+        event.bytes = buf.limit();
+        boolean written;
+        synchronized (WRITE_LOCK)
+        {
+            written = writeSave(buf);
+        }
+
+        if (written)
+        {
+            //everything dirty is in save.dat now,
+            //autosaves can append to this base
+            if (map != null)
+            {
+                map.clearDirty();
+            }
+            AutoSaver.baseWritten();
+        }
+        else
+        {
+            //save.dat/save.jnl are still the old ones, the next autosave
+            //writes everything instead of appending to them
+            AutoSaver.needFullSave();
+        }
+
+        event.commit();
+    }
+
+    /**
+     * Writes an encoded save so a crash never leaves a half written save.dat:
+     * write save.dat.tmp, fsync it, then rename it over save.dat.
+     * The journal is emptied, the new base already has its changes.
+     * Caller must hold WRITE_LOCK.
+     *
+     * @param buf SaveFormat bytes from position 0
+     * @return true if save.dat was replaced, false if the old one is still there
+     */
+    public static boolean writeSave(ByteBuffer buf)
+    {
+        Path target = Paths.get(GameConfig.SAVE_BIN_FILE);
+        Path tmp = Paths.get(GameConfig.SAVE_BIN_FILE + ".tmp");
+
+        FileChannel ch = null;
         try
         {
-            PrintWriter out = new PrintWriter(new FileWriter(GameConfig.SAVE_FILE));
-    
-            out.println("roomR=" + data.roomR);
-            out.println("roomC=" + data.roomC);
-            out.println("lastRoomR=" + data.lastRoomR);
-            out.println("lastRoomC=" + data.lastRoomC);
-            out.println("playerHealth=" + data.playerHealth);
-            out.println("roomsCleared=" + data.roomsCleared);
-            out.println("coins=" + data.coins);
-            out.println("score=" + data.score);
-            out.println("stones=" + data.stones);
-            out.println("axeAttackPower="+data.axeAttackPower);
-            out.println("bulletAttackPower="+data.bulletAttackPower);
-            out.println("swordAttackPower="+data.swordAttackPower);
-            
-            if(map!=null)
+            ch = FileChannel.open(tmp,
+                                  StandardOpenOption.CREATE,
+                                  StandardOpenOption.WRITE,
+                                  StandardOpenOption.TRUNCATE_EXISTING);
+            while (buf.hasRemaining())
+            {
+                ch.write(buf);
+            }
+            ch.force(true);
+            ch.close();
+            ch = null;
+
+            try
+            {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
             {
-                out.println("visited=" + (map == null ? "" : map.exportVisited()));
-                out.println("cleared=" + (map == null ? "" : map.exportCleared()));
-                
-                saveRoomData(map,out);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
             }
 
-            out.close();
+            //folded into the base
+            new File(GameConfig.SAVE_JOURNAL_FILE).delete();
+
+            //migrated, the text save is no longer needed
+            new File(GameConfig.SAVE_FILE).delete();
+            return true;
         }
         catch (IOException e)
         {
             System.out.println("Save failed: " + e.getMessage());
+            return false;
+        }
+        finally
+        {
+            closeQuietly(ch);
         }
     }
-    
+
     /**
-     * Loads progress from file and applies visited/cleared onto the map.
+     * Appends one SaveJournal record to save.jnl and fsyncs it.
+     * Caller must hold WRITE_LOCK.
+     *
+     * @param record SaveJournal bytes from position 0
+     * @return true if the whole record reached the disk
+     */
+    public static boolean appendJournal(ByteBuffer record)
+    {
+        FileChannel ch = null;
+        try
+        {
+            ch = FileChannel.open(Paths.get(GameConfig.SAVE_JOURNAL_FILE),
+                                  StandardOpenOption.CREATE,
+                                  StandardOpenOption.WRITE,
+                                  StandardOpenOption.APPEND);
+            while (record.hasRemaining())
+            {
+                ch.write(record);
+            }
+            ch.force(true);
+            return true;
+        }
+        catch (IOException e)
+        {
+            System.out.println("Journal write failed: " + e.getMessage());
+            return false;
+        }
+        finally
+        {
+            closeQuietly(ch);
+        }
+    }
+
+    /**
+     * Loads progress and applies visited/cleared/tiles onto the map.
+     * Reads save.dat, or the old save.txt if there is no valid save.dat.
      *
      * @param map map to apply visited/cleared into
      * @return SaveData if loaded, or null if missing/invalid
@@ -111,7 +244,116 @@ public class SaveManager
     public static GameData load(GameMap map)
     {
         if (map == null) return null;
-        if (!hasSave()) return null;
+
+        GameData data = loadBinary(map);
+        if (data != null)
+        {
+            return data;
+        }
+        return loadText(map);
+    }
+
+    /**
+     * Loads only the GameData part (no map), e.g. for the setting world.
+     *
+     * @return SaveData if loaded, or null if missing/invalid
+     */
+    public static GameData load()
+    {
+        GameData data = loadBinary(null);
+        if (data != null)
+        {
+            return data;
+        }
+        return loadText();
+    }
+
+    /**
+     * @param map map to apply onto, null for GameData only
+     * @return SaveData from save.dat, or null if missing/invalid
+     */
+    private static GameData loadBinary(GameMap map)
+    {
+        try
+        {
+            ByteBuffer base = readFile(GameConfig.SAVE_BIN_FILE);
+            if (base == null) return null;
+
+            GameData data = SaveFormat.decode(base, map);
+            if (data == null) return null;
+
+            //changes saved after the base
+            ByteBuffer journal = readFile(GameConfig.SAVE_JOURNAL_FILE);
+            if (journal != null)
+            {
+                SaveJournal.replay(journal, data, map);
+            }
+            return data;
+        }
+        catch (IOException e)
+        {
+            System.out.println("Load failed: " + e.getMessage());
+            return null;
+        }
+        catch (java.nio.BufferUnderflowException e)
+        {
+            System.out.println("Load failed, save file is cut short");
+            return null;
+        }
+    }
+
+    /**
+     * @return the whole file, or null if it is missing/empty
+     */
+    private static ByteBuffer readFile(String name) throws IOException
+    {
+        Path path = Paths.get(name);
+        if (!Files.exists(path)) return null;
+
+        FileChannel ch = null;
+        try
+        {
+            ch = FileChannel.open(path, StandardOpenOption.READ);
+            long size = ch.size();
+            if (size <= 0 || size > Integer.MAX_VALUE) return null;
+
+            ByteBuffer buf = ByteBuffer.allocate((int) size);
+            while (buf.hasRemaining() && ch.read(buf) >= 0)
+            {
+                //keep reading until full
+            }
+            buf.flip();
+            return buf;
+        }
+        finally
+        {
+            closeQuietly(ch);
+        }
+    }
+
+    private static void closeQuietly(FileChannel ch)
+    {
+        if (ch == null) return;
+        try
+        {
+            ch.close();
+        }
+        catch (IOException e)
+        {
+            System.out.println("Close failed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Loads progress from the old text file and applies visited/cleared onto the map.
+     *
+     * @param map map to apply visited/cleared into
+     * @return SaveData if loaded, or null if missing/invalid
+     */
+    private static GameData loadText(GameMap map)
+    {
+        if (map == null) return null;
+        if (!new File(GameConfig.SAVE_FILE).exists()) return null;
     
         GameData data = new GameData();
     
@@ -188,6 +430,10 @@ public class SaveManager
                 {
                     data.playerHealth=parseIntSafe(line.substring("playerHealth=".length()), 0);
                 }
+                else if (line.startsWith("seed="))
+                {
+                    data.seed=parseLongSafe(line.substring("seed=".length()), 0);
+                }
                 else if (data!=null&&line.startsWith("axeAttackPower="))
                 {
                     data.axeAttackPower=parseIntSafe(line.substring("axeAttackPower=".length()), 0);
@@ -214,9 +460,12 @@ public class SaveManager
     
         return data;
     }
-    public static GameData load()
+    /**
+     * Loads only the GameData part of the old text file.
+     */
+    private static GameData loadText()
     {
-        if (!hasSave()) return null;
+        if (!new File(GameConfig.SAVE_FILE).exists()) return null;
     
         GameData data = new GameData();
     
@@ -268,6 +517,10 @@ public class SaveManager
                 {
                     data.playerHealth=parseIntSafe(line.substring("playerHealth=".length()), 0);
                 }
+                else if (line.startsWith("seed="))
+                {
+                    data.seed=parseLongSafe(line.substring("seed=".length()), 0);
+                }
             }
         }
         catch (FileNotFoundException e)
@@ -331,23 +584,22 @@ public class SaveManager
 
         rd.importTiles(tilesPart);
     }
-    private static void saveRoomData(GameMap map, PrintWriter out)
+    /**
+     * Parses a long safely (the seed), returning a default value if invalid.
+     */
+    private static long parseLongSafe(String s, long defaultValue)
     {
-
-        if (map != null)
+        try
         {
-            for (int r = 0; r < map.getRows(); r++)
-            {
-                for (int c = 0; c < map.getCols(); c++)
-                {
-                    if (!map.hasRoom(r, c)) continue;
-
-                    RoomData rd = map.getRoomData(r, c);
-                    if (rd == null) continue;
-
-                    out.println("tiles=" + r + "," + c + ":" + rd.exportTiles());
-                }
-            }
+            return Long.parseLong(s.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            return defaultValue;
+        }
+        catch (NullPointerException e)
+        {
+            return defaultValue;
         }
     }
     /**
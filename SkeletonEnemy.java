@@ -23,9 +23,13 @@ public class SkeletonEnemy extends Enemy
     //random attack interval in frames
     private int attackIntervalMin=120; 
     private int attackIntervalMax=240; 
-    private int attackTimer=0;
+    //now() frame the next attack is allowed, random interval
+    private long nextAttackAt=0;
     private int attackPower=1;
 
+    //player in range when think() ran
+    private boolean playerInRange=false;
+
     public SkeletonEnemy(Player target)
     {
         super(target);
@@ -54,29 +58,25 @@ public class SkeletonEnemy extends Enemy
         scheduleNextAttack();
     }
 
-    public void act()
+    /**
+     * Picks the wander move and checks the attack range,
+     * nothing while attacking (the move would not be used).
+     */
+    protected void think()
     {
-        if (GameWorld.isPaused()) return;
-        if (getWorld() == null) return;
         if (player == null || player.getWorld() == null) return;
+        if (attacking) return;
 
-        //countdown freeze
-        //stop movement  contact damage while frozen
-        if (freezeTimer > 0)
-        {
-            showText("Stoned",Color.YELLOW,getX(),getY()+50,false);
-            freezeTimer--;
-            return; 
-        }
-        
-        //Enemy contact cooldown
-        if (hitCooldown > 0) hitCooldown--;
-
-        //Combat cooldown
-        if (attackCooldown > 0) attackCooldown--;
+        computeMove();
+        playerInRange=wantsToAttack();
+    }
 
-        //random interval countdown
-        if (attackTimer > 0) attackTimer--;
+    /**
+     * Not called while frozen (Enemy/EnemySystem check that).
+     */
+    protected void step()
+    {
+        if (player == null || player.getWorld() == null) return;
 
         //if attacking: only animate attack
         if (attacking)
@@ -86,11 +86,11 @@ public class SkeletonEnemy extends Enemy
         }
 
         //normal movement and touch damage
-        regularMovement();
+        applyMove();
         handlePlayerContact();
 
         //start attack?
-        if (attackCooldown == 0 && attackTimer == 0 && wantsToAttack())
+        if (attackReady() && now() >= nextAttackAt && playerInRange)
         {
             startAttack();
         }
@@ -99,9 +99,10 @@ public class SkeletonEnemy extends Enemy
     /**
      * Wandering movement.
      */
-    protected int[] computeMove()
+    protected void computeMove()
     {
-        return wonderAround.nextMove(speed);
+        wonderAround.nextMove(speed);
+        setMove(wonderAround.getDx(), wonderAround.getDy());
     }
 
     /**
@@ -146,14 +147,23 @@ public class SkeletonEnemy extends Enemy
         int shooty=getY() + dirY * offset;
 
         SoundManager.playArrowSound();
-        getWorld().addObject(new EnemyArrow(dirX, dirY,getAttackPower()), shootx, shooty);
+        getWorld().addObject(ProjectilePool.acquireArrow(dirX, dirY,getAttackPower()), shootx, shooty);
+    }
+
+    /**
+     * The attack interval waits while frozen too.
+     */
+    protected void shiftCooldowns(long frames)
+    {
+        super.shiftCooldowns(frames);
+        nextAttackAt=shifted(nextAttackAt, now(), frames);
     }
 
     private void scheduleNextAttack()
     {
         int min=Math.min(attackIntervalMin, attackIntervalMax);
         int max=Math.max(attackIntervalMin, attackIntervalMax);
-        attackTimer=min + Greenfoot.getRandomNumber(max - min + 1);
+        nextAttackAt=now() + min + GameRandom.ai(max - min + 1);
     }
     private int getAttackPower()
     {
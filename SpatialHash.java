@@ -0,0 +1,264 @@
+import greenfoot.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SpatialHash answers actor-vs-actor questions
+ * (who is this hitbox touching, which player is in range)
+ * without going through Greenfoot's collision checker for every actor.
+ *
+ * - the world is cut into cells about the size of one room tile
+ * - every Enemy and Player is put into the cell under its centre
+ * - GameWorld rebuilds it once at the start of every frame
+ *   and again right after a room is loaded
+ * - a query only looks at the cells near the asking actor,
+ *   then checks the real image boxes at the actors' current location
+ *
+ * Actors only move a few pixels per frame, so the cells
+ * are searched with a small slack to cover movement since the rebuild.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class SpatialHash
+{
+    //one cell is about one room tile
+    private static final int CELL=GameConfig.ROOM_W / GameConfig.MAP_COLS;
+
+    //how far an actor may have moved since the last rebuild
+    private static final int SLACK=8;
+
+    private int cols;
+    private int rows;
+
+    //cells.get(row * cols + col)=actors whose centre is in that cell
+    private ArrayList<ArrayList<Actor>> cells;
+
+    //biggest half image size indexed this frame
+    //a query grows by this much, so big actors (boss) are still found
+    private int maxHalfW=0;
+    private int maxHalfH=0;
+
+    public SpatialHash()
+    {
+        cols=GameConfig.WORLD_W / CELL + 1;
+        rows=GameConfig.WORLD_H / CELL + 1;
+
+        cells=new ArrayList<ArrayList<Actor>>(cols * rows);
+        for (int i=0; i < cols * rows; i++)
+        {
+            cells.add(new ArrayList<Actor>());
+        }
+    }
+
+    /**
+     * Empties every cell and re-adds every Enemy and Player in the world.
+     *
+     * @param world: the world to index
+     */
+    public void rebuild(World world)
+    {
+        for (int i=0; i < cells.size(); i++)
+        {
+            cells.get(i).clear();
+        }
+        maxHalfW=0;
+        maxHalfH=0;
+
+        if (world == null)
+        {
+            return;
+        }
+
+        for (Enemy e : world.getObjects(Enemy.class))
+        {
+            insert(e);
+        }
+        for (Player p : world.getObjects(Player.class))
+        {
+            insert(p);
+        }
+    }
+
+    private void insert(Actor a)
+    {
+        GreenfootImage img=a.getImage();
+        if (img != null)
+        {
+            maxHalfW=Math.max(maxHalfW, img.getWidth() / 2);
+            maxHalfH=Math.max(maxHalfH, img.getHeight() / 2);
+        }
+        cells.get(cellRow(a.getY()) * cols + cellCol(a.getX())).add(a);
+    }
+
+    /**
+     * Same as Actor.getOneIntersectingObject(cls).
+     *
+     * @param a:    the asking actor
+     * @param cls:  class of the actor to look for
+     * @return one actor of class cls whose image box overlaps a's, or null
+     */
+    public <T> T getOneIntersecting(Actor a, Class<T> cls)
+    {
+        return scanIntersecting(a, cls, null);
+    }
+
+    /**
+     * Same as Actor.isTouching(cls).
+     */
+    public boolean isTouching(Actor a, Class<?> cls)
+    {
+        return scanIntersecting(a, cls, null) != null;
+    }
+
+    /**
+     * Same as Actor.getIntersectingObjects(cls),
+     * but fills the caller's list so nothing is allocated.
+     *
+     * @param a:    the asking actor
+     * @param cls:  class of the actors to look for
+     * @param out:  cleared, then filled with the actors found
+     */
+    public <T> void getIntersecting(Actor a, Class<T> cls, List<T> out)
+    {
+        out.clear();
+        scanIntersecting(a, cls, out);
+    }
+
+    /**
+     * Finds the closest actor of class cls whose centre
+     * is within radius of a's centre.
+     *
+     * @param a:        the asking actor
+     * @param radius:   range in pixels
+     * @param cls:      class of the actor to look for
+     * @return the nearest one, or null if none is in range
+     */
+    public <T> T getNearestInRange(Actor a, int radius, Class<T> cls)
+    {
+        int ax=a.getX();
+        int ay=a.getY();
+        int reach=radius + SLACK;
+
+        int c1=cellCol(ax - reach);
+        int c2=cellCol(ax + reach);
+        int r1=cellRow(ay - reach);
+        int r2=cellRow(ay + reach);
+
+        T best=null;
+        long bestDist=(long) radius * radius;
+
+        for (int r=r1; r <= r2; r++)
+        {
+            for (int c=c1; c <= c2; c++)
+            {
+                ArrayList<Actor> cell=cells.get(r * cols + c);
+                for (int i=0; i < cell.size(); i++)
+                {
+                    Actor b=cell.get(i);
+                    if (b == a || b.getWorld() == null || !cls.isInstance(b))
+                    {
+                        continue;
+                    }
+
+                    long dx=b.getX() - ax;
+                    long dy=b.getY() - ay;
+                    long d=dx * dx + dy * dy;
+                    if (d <= bestDist)
+                    {
+                        bestDist=d;
+                        best=cls.cast(b);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Walks the cells around a's image box.
+     * If out is null, stops at the first hit and returns it.
+     * Otherwise adds every hit to out and returns null.
+     */
+    private <T> T scanIntersecting(Actor a, Class<T> cls, List<T> out)
+    {
+        GreenfootImage img=a.getImage();
+        if (img == null)
+        {
+            return null;
+        }
+
+        int w=img.getWidth();
+        int h=img.getHeight();
+        int x1=a.getX() - w / 2;
+        int y1=a.getY() - h / 2;
+        int x2=x1 + w;
+        int y2=y1 + h;
+
+        int c1=cellCol(x1 - maxHalfW - SLACK);
+        int c2=cellCol(x2 + maxHalfW + SLACK);
+        int r1=cellRow(y1 - maxHalfH - SLACK);
+        int r2=cellRow(y2 + maxHalfH + SLACK);
+
+        for (int r=r1; r <= r2; r++)
+        {
+            for (int c=c1; c <= c2; c++)
+            {
+                ArrayList<Actor> cell=cells.get(r * cols + c);
+                for (int i=0; i < cell.size(); i++)
+                {
+                    Actor b=cell.get(i);
+                    if (b == a || b.getWorld() == null || !cls.isInstance(b))
+                    {
+                        continue;
+                    }
+                    if (!overlaps(b, x1, y1, x2, y2))
+                    {
+                        continue;
+                    }
+
+                    if (out == null)
+                    {
+                        return cls.cast(b);
+                    }
+                    out.add(cls.cast(b));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if b's image box overlaps the box (x1,y1)-(x2,y2)
+     */
+    private boolean overlaps(Actor b, int x1, int y1, int x2, int y2)
+    {
+        GreenfootImage img=b.getImage();
+        if (img == null)
+        {
+            return false;
+        }
+        int bw=img.getWidth();
+        int bh=img.getHeight();
+        int bx1=b.getX() - bw / 2;
+        int by1=b.getY() - bh / 2;
+
+        return bx1 < x2 && bx1 + bw > x1 && by1 < y2 && by1 + bh > y1;
+    }
+
+    private int cellCol(int x)
+    {
+        int c=x / CELL;
+        if (x < 0) c=0;
+        if (c >= cols) c=cols - 1;
+        return c;
+    }
+
+    private int cellRow(int y)
+    {
+        int r=y / CELL;
+        if (y < 0) r=0;
+        if (r >= rows) r=rows - 1;
+        return r;
+    }
+}
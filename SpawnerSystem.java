@@ -41,23 +41,31 @@ public class SpawnerSystem
         }
 
 
+        GameEvents.SpawnWave wave=new GameEvents.SpawnWave();
+        wave.begin();
+        wave.source="room";
+
         //if(world.getRoomsClearedCount()==GameConfig.SUMMONER_BOSS_DOOR_CLEARED   
         //Last battle room is the boss room
         if (((GameWorld)world).isBossRoom())
         {
             world.addObject(new SummonerBoss(player), GameConfig.roomCenterX(), 0);
+            wave.source="boss";
+            wave.enemyCount=1;
+            wave.commit();
             return;  //don't spawn enemies in boss room
         }
 
         
         for (int i=0; i < maxiumEnemySpawn(); i++) 
         {
+            wave.enemyCount++;
             //randomly assigned x, y for eaach player
             //p is x, y co-ordiantes to spawn the enemy
             int[] p=randomFloorSpawn(r, c);
 
             //adds different typs of enemies randomly
-            int choice = Greenfoot.getRandomNumber(3);
+            int choice = GameRandom.spawn(3);
             if (choice==0)
             {
                 world.addObject(new ZombieEnemy(player),  p[0], p[1]);
@@ -71,8 +79,7 @@ public class SpawnerSystem
                  world.addObject(new SkeletonEnemy(player),  p[0], p[1]);
             }
         }
-       
-         
+        wave.commit();
     }
      /**
      * Spawns HazardEnemy only if room is a DodgeRoom, roomType='D'
@@ -105,25 +112,25 @@ public class SpawnerSystem
     {
         if(world==null)
         {
-            return 1 + Greenfoot.getRandomNumber(GameConfig.ENEMIES_TO_SPAWN); //1 to GameConfigENEMIES_TO_SPAWN
+            return 1 + GameRandom.spawn(GameConfig.ENEMIES_TO_SPAWN); //1 to GameConfigENEMIES_TO_SPAWN
         }
         
         //based on difficultyLevel
         int difficultyLevel=world.difficultyLevel();
         if(difficultyLevel==0)
         {
-            return 1+ Greenfoot.getRandomNumber(GameConfig.ENEMIES_TO_SPAWN*2); 
+            return 1+ GameRandom.spawn(GameConfig.ENEMIES_TO_SPAWN*2); 
         }
         if(difficultyLevel==1)
         {
-            return( GameConfig.ENEMIES_TO_SPAWN+2 )+ Greenfoot.getRandomNumber(GameConfig.ENEMIES_TO_SPAWN*2); 
+            return( GameConfig.ENEMIES_TO_SPAWN+2 )+ GameRandom.spawn(GameConfig.ENEMIES_TO_SPAWN*2); 
         }
         if(difficultyLevel==2)
         {
-            return (GameConfig.ENEMIES_TO_SPAWN +3) + Greenfoot.getRandomNumber(GameConfig.ENEMIES_TO_SPAWN*3); 
+            return (GameConfig.ENEMIES_TO_SPAWN +3) + GameRandom.spawn(GameConfig.ENEMIES_TO_SPAWN*3); 
         }
         
-        return (GameConfig.ENEMIES_TO_SPAWN  +4)+ Greenfoot.getRandomNumber(GameConfig.ENEMIES_TO_SPAWN*4); 
+        return (GameConfig.ENEMIES_TO_SPAWN  +4)+ GameRandom.spawn(GameConfig.ENEMIES_TO_SPAWN*4); 
     }
     /**
      * Spawns enemies only on FLOOR tiles so they never appear inside wall colliders.
@@ -157,8 +164,8 @@ public class SpawnerSystem
         for (int  i=0; i < 250; i++) 
         {
             //pick a random interior tile
-            int tr=1 + Greenfoot.getRandomNumber(GameConfig.MAP_ROWS - 2);
-            int tc=1 + Greenfoot.getRandomNumber(GameConfig.MAP_COLS - 2);
+            int tr=1 + GameRandom.spawn(GameConfig.MAP_ROWS - 2);
+            int tc=1 + GameRandom.spawn(GameConfig.MAP_COLS - 2);
 
             //only spawn on walkable floor tiles
             if (rd.tiles[tr][tc]==GameConfig.FLOOR) {
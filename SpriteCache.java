@@ -0,0 +1,112 @@
+import greenfoot.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SpriteCache keeps loaded + scaled (+ mirrored) sprite frames
+ * so the same png is only decoded and scaled once,
+ * no matter how many zombies/skeletons/coins use it.
+ *
+ * - key is path + target size + mirrored
+ * - the least recently used frames are dropped once the cache is full,
+ *   actors that already hold them keep their own reference
+ * - the same GreenfootImage is handed to every actor that asks,
+ *   so do not draw on a cached frame, copy it first
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class SpriteCache
+{
+    //enough for every sprite set in the game with room to spare
+    private static final int MAX_ENTRIES=600;
+
+    //access order, so the eldest entry is the least recently used one
+    private static LinkedHashMap<String, GreenfootImage> cache=
+        new LinkedHashMap<String, GreenfootImage>(128, 0.75f, true)
+        {
+            protected boolean removeEldestEntry(Map.Entry<String, GreenfootImage> eldest)
+            {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+    /**
+     * Loads path scaled to w x h, or returns the cached copy.
+     * Missing files are not cached, so the caller can fall back to a placeholder.
+     *
+     * @param path:     image file path
+     * @param w,h:      scaled size, 0 or less keeps the original size
+     * @throws IllegalArgumentException if the file cannot be loaded
+     */
+    public static GreenfootImage get(String path, int w, int h)
+    {
+        return get(path, w, h, false);
+    }
+
+    /**
+     * Same as get(path, w, h) but horizontally mirrored,
+     * e.g. left frames built from the right frames.
+     */
+    public static GreenfootImage getMirrored(String path, int w, int h)
+    {
+        return get(path, w, h, true);
+    }
+
+    private static GreenfootImage get(String path, int w, int h, boolean mirrored)
+    {
+        String key=path + "|" + w + "x" + h + (mirrored ? "|m" : "");
+        GreenfootImage img=cache.get(key);
+        if (img != null)
+        {
+            return img;
+        }
+
+        if (mirrored)
+        {
+            //build from the unmirrored frame, which is cached too
+            img=new GreenfootImage(get(path, w, h, false));
+            img.mirrorHorizontally();
+        }
+        else
+        {
+            GameEvents.AssetDecode event=new GameEvents.AssetDecode();
+            event.begin();
+            img=new GreenfootImage(path);
+            if (w > 0 && h > 0)
+            {
+                img.scale(w, h);
+            }
+            event.path=path;
+            event.width=img.getWidth();
+            event.height=img.getHeight();
+            event.commit();
+        }
+
+        cache.put(key, img);
+        return img;
+    }
+
+    /**
+     * Loads frames prefix1.png ... prefix{count}.png, all scaled to w x h.
+     *
+     * @throws IllegalArgumentException if any frame is missing
+     */
+    public static GreenfootImage[] getFrames(String prefix, int count, int w, int h)
+    {
+        GreenfootImage[] frames=new GreenfootImage[count];
+        for (int i=0; i < count; i++)
+        {
+            frames[i]=get(prefix + (i + 1) + ".png", w, h, false);
+        }
+        return frames;
+    }
+
+    /**
+     * Forgets every cached frame.
+     */
+    public static void clear()
+    {
+        cache.clear();
+    }
+}
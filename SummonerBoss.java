@@ -63,6 +63,7 @@ public class SummonerBoss extends Enemy
         HP_BAR_W = spriteW - 20;
         HP_BAR_H = 10;
         HP_BAR_Y_OFFSET = 90;
+        stonedTextOffset = 100;
 
         //load summon frames
         summonFrames = loadFramesRequired("enemy/boss/summon/summon", 8);
@@ -76,24 +77,16 @@ public class SummonerBoss extends Enemy
     /**
      * Boss never moves by AI.
      */
-    protected int[] computeMove()
+    protected void computeMove()
     {
-        return new int[]{0, 0};
+        setMove(0, 0);
     }
 
-    public void act()
+    /**
+     * Not called while frozen (Enemy/EnemySystem check that).
+     */
+    protected void step()
     {
-        if (GameWorld.isPaused()) return;
-        if (getWorld() == null) return;
-
-        //frozen by stone skill
-        if (freezeTimer > 0)
-        {
-            showText("Stoned", Color.YELLOW, getX(), getY() + 100, false);
-            freezeTimer--;
-            return;
-        }
-
         //Landing
         if (!landed)
         {
@@ -242,6 +235,9 @@ public class SummonerBoss extends Enemy
         int radius = 100;
         int triesPerMinion = 30;
 
+        GameEvents.SpawnWave wave = new GameEvents.SpawnWave();
+        wave.begin();
+
         for (int i = 0; i < count; i++)
         {
             int[] point = findSpawnPointNearBoss(radius, triesPerMinion);
@@ -255,7 +251,7 @@ public class SummonerBoss extends Enemy
             //type 3 means random mix
             if (type == 3)
             {
-                choice = Greenfoot.getRandomNumber(3); // 0/1/2
+                choice = GameRandom.spawn(3); // 0/1/2
             }
 
             if (choice == 0)
@@ -271,6 +267,10 @@ public class SummonerBoss extends Enemy
                 getWorld().addObject(new SkeletonEnemy(player), point[0], point[1]);
             }
         }
+
+        wave.source = "summoner";
+        wave.enemyCount = count;
+        wave.commit();
     }
     /**
      * find a safe spot near boss, avoid wall or blocker objects
@@ -282,8 +282,8 @@ public class SummonerBoss extends Enemy
 
         for (int t = 0; t < maxTries; t++)
         {
-            int x = getX() + Greenfoot.getRandomNumber(radius * 2 + 1) - radius;
-            int y = getY() + Greenfoot.getRandomNumber(radius * 2 + 1) - radius;
+            int x = getX() + GameRandom.spawn(radius * 2 + 1) - radius;
+            int y = getY() + GameRandom.spawn(radius * 2 + 1) - radius;
 
             if (x < 20 || y < 20 || x > w.getWidth() - 20 || y > w.getHeight() - 20)
             {
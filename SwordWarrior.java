@@ -9,10 +9,6 @@ import greenfoot.*;
  */
 public class SwordWarrior extends Player
 {
-    //space pressed detection
-    private boolean lastSpace = false;
-    private boolean spaceJustPressed = false;
-
     public SwordWarrior()
     {
         //movement
@@ -30,7 +26,6 @@ public class SwordWarrior extends Player
 
         //walk frames
         loadDirectionalFrames("player/sword_warrior/walking", 4);
-        left = mirrorImage(right);
 
         //attack frames
         loadAttackFrames("player/sword_warrior/attack", 10);
@@ -47,20 +42,18 @@ public class SwordWarrior extends Player
 
     public void act()
     {
-        //space just pressed detection
-        //so holding space does not trigger multiple attack
-        boolean space = Greenfoot.isKeyDown("space");
-        spaceJustPressed = space && !lastSpace;
-        lastSpace = space;
+        long t=FrameProfiler.begin();
 
         super.act();
+
+        FrameProfiler.end(FrameProfiler.PLAYER, t);
     }
     /**
      * start attack when space is pressed.
      */
     protected boolean wantsToAttack()
     {
-        return spaceJustPressed;
+        return InputFrame.justPressed(InputFrame.SPACE);
     }
 
     /**
@@ -98,7 +91,7 @@ public class SwordWarrior extends Player
         }
 
         //puts a short-lived hitbox
-        HitBox hitbox = new HitBox(boxW, boxH,1,getAttackPower());
+        HitBox hitbox = ProjectilePool.acquireHitBox(boxW, boxH,1,getAttackPower());
         getWorld().addObject(hitbox, getX() + offSetX, getY() + offSetY);
         
         //play sword sound effect
@@ -11,7 +11,6 @@ public class TextLabel extends Actor
     private String text = "";
     private int size = 24;
     private Color textColor = Color.WHITE;
-    private Color bgColor = new Color(0,0,0,0); //transparent
     private int life=0;  //-1, don't remove
     private int timer=0;
     private boolean visible=true;
@@ -47,7 +46,7 @@ public class TextLabel extends Actor
             setImage(blank);
             return;
         }
-        setImage(new GreenfootImage(text, size, textColor, bgColor));
+        setImage(GlyphAtlas.get(size, textColor).render(text));
     }
     /**
      * allows caller to reset text of a certain label
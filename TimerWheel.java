@@ -0,0 +1,222 @@
+/**
+ * TimerWheel runs frame timers for one GameWorld.
+ *
+ * Instead of every actor counting its own timers down each frame:
+ * - a Timer with an action is scheduled once, "in n frames",
+ *   and the action runs when that frame comes (bullet/hitbox life, messages)
+ * - a cooldown only needs the frame it ends on, compared with now()
+ *   (player invincibility, attack cooldowns, enemy freeze/contact)
+ *
+ * Timers are kept in hierarchical wheels of 64 slots:
+ * level 0 holds the next 64 frames one slot per frame,
+ * level 1 the next 64*64 frames 64 frames per slot, and so on.
+ * A far timer is moved down a level when its slot comes up,
+ * so tick() only touches the timers that are due (plus those moves),
+ * scheduling and cancelling are O(1) and a waiting timer costs nothing.
+ *
+ * GameWorld calls tick() once per frame after its pause check,
+ * so while paused the clock and every timer simply stop.
+ * It is plain Java, a World is not needed to run it.
+ *
+ * @author:     Owen Kung
+ * @version:    Jan 2026
+ */
+public class TimerWheel
+{
+    private static final int BITS=6;
+    private static final int SLOTS=1 << BITS;   //64
+    private static final int MASK=SLOTS - 1;
+    private static final int LEVELS=4;          //up to 64^4 frames, about 77 hours at 60 fps
+
+    //longest delay, later ones are clamped
+    private static final long MAX_DELAY=(1L << (BITS * LEVELS)) - 1;
+
+    /**
+     * One timer, owned by whoever schedules it and reused for every schedule.
+     * Timers of one slot form a list through next/prev, in scheduling order.
+     */
+    public static class Timer
+    {
+        private final Runnable action;
+
+        private TimerWheel wheel;    //null while not scheduled
+        private long due;
+        private Timer next;
+        private Timer prev;
+        private int level;           //DUE while waiting to run this tick
+        private int slot;
+
+        /**
+         * @param action: run on the frame the timer is due
+         */
+        public Timer(Runnable action)
+        {
+            this.action=action;
+        }
+
+        public boolean isScheduled()
+        {
+            return wheel != null;
+        }
+
+        /**
+         * @return frames until due, 0 if not scheduled
+         */
+        public long remaining()
+        {
+            return (wheel == null) ? 0 : due - wheel.now;
+        }
+
+        /**
+         * Stops the timer, nothing happens if it is not scheduled.
+         */
+        public void cancel()
+        {
+            if (wheel != null)
+            {
+                wheel.unlink(this);
+            }
+        }
+    }
+
+    //level of the timers taken out of their slot to run this tick
+    private static final int DUE=-1;
+
+    //heads of the slot lists, [level][slot]
+    private Timer[][] heads=new Timer[LEVELS][SLOTS];
+    private Timer[][] tails=new Timer[LEVELS][SLOTS];
+
+    //timers running this tick, still cancellable until their turn
+    private Timer dueHead=null;
+
+    //frames ticked
+    private long now=0;
+
+    /**
+     * @return frames ticked so far, the clock cooldowns are compared with
+     */
+    public long now()
+    {
+        return now;
+    }
+
+    /**
+     * Runs t's action delay frames from now (at least 1),
+     * moving it if it is already scheduled.
+     */
+    public void schedule(Timer t, long delay)
+    {
+        t.cancel();
+        delay=Math.max(1, Math.min(delay, MAX_DELAY));
+        t.due=now + delay;
+        t.wheel=this;
+        link(t);
+    }
+
+    /**
+     * Advances one frame and runs the timers that are due, in the order
+     * they were scheduled. An action may schedule or cancel any timer.
+     */
+    public void tick()
+    {
+        now++;
+
+        //every 64 frames bring the next group of far timers one level closer
+        for (int level=1; level < LEVELS; level++)
+        {
+            if ((now & ((1L << (BITS * level)) - 1)) != 0) break;
+
+            int s=(int) ((now >>> (BITS * level)) & MASK);
+            Timer t=detach(level, s);
+            while (t != null)
+            {
+                Timer next=t.next;
+                t.next=null;
+                t.prev=null;
+                link(t);
+                t=next;
+            }
+        }
+
+        int s=(int) (now & MASK);
+        dueHead=detach(0, s);
+        for (Timer t=dueHead; t != null; t=t.next)
+        {
+            t.level=DUE;
+        }
+        while (dueHead != null)
+        {
+            Timer t=dueHead;
+            unlink(t);
+            t.action.run();
+        }
+    }
+
+    //puts t in the level/slot its due frame belongs to
+    private void link(Timer t)
+    {
+        long delay=t.due - now;
+        int level=0;
+        while (level < LEVELS - 1 && delay >= (1L << (BITS * (level + 1))))
+        {
+            level++;
+        }
+        int s=(int) ((t.due >>> (BITS * level)) & MASK);
+
+        t.level=level;
+        t.slot=s;
+        t.next=null;
+        t.prev=tails[level][s];
+        if (t.prev == null)
+        {
+            heads[level][s]=t;
+        }
+        else
+        {
+            t.prev.next=t;
+        }
+        tails[level][s]=t;
+    }
+
+    private void unlink(Timer t)
+    {
+        if (t.prev == null)
+        {
+            if (t.level == DUE)
+            {
+                dueHead=t.next;
+            }
+            else
+            {
+                heads[t.level][t.slot]=t.next;
+            }
+        }
+        else
+        {
+            t.prev.next=t.next;
+        }
+        if (t.next == null)
+        {
+            if (t.level != DUE)
+            {
+                tails[t.level][t.slot]=t.prev;
+            }
+        }
+        else
+        {
+            t.next.prev=t.prev;
+        }
+        t.next=null;
+        t.prev=null;
+        t.wheel=null;
+    }
+
+    //empties a slot and returns its old list
+    private Timer detach(int level, int s)
+    {
+        Timer t=heads[level][s];
+        heads[level][s]=null;
+        tails[level][s]=null;
+        return t;
+    }
+}
@@ -17,7 +17,6 @@ public class TypeWriterText extends Actor
     private String currentLine="";
     private int charIndex=0;
 
-    private String shownText="";   
     private boolean finished=false;
 
     private int fontSize;
@@ -27,6 +26,14 @@ public class TypeWriterText extends Actor
     private int typingTimer=0;
 
     private int soundTimer=0;
+
+    //cached glyphs for fontSize/textColor
+    private GlyphAtlas atlas;
+
+    //where the next glyph goes on the box image
+    private int cursorX=10;
+    private int cursorY=10;
+    private int lineCount=0;
     /**
      * Constructor for TypeWritterText
      * 
@@ -44,6 +51,7 @@ public class TypeWriterText extends Actor
         this.boxH=boxH;
         this.textColor=textColor;
         this.typingSpeed=Math.max(1, typingSpeed);
+        atlas=GlyphAtlas.get(fontSize, textColor);
 
         //fill the queue with lines
         loadLines(message);
@@ -56,7 +64,6 @@ public class TypeWriterText extends Actor
 
         //start with the first line
         nextLine();
-        redraw();
     }
     /**
      * play typing sound while text is not finished displaying
@@ -88,22 +95,21 @@ public class TypeWriterText extends Actor
         //type next character in currentLine
         if (charIndex < currentLine.length())
         {
-            //add character to the text string to be shown
-            shownText += currentLine.charAt(charIndex);
+            //only the new glyph is drawn, the rest is already on the image
+            char ch=currentLine.charAt(charIndex);
             charIndex++;
 
-            redraw();
+            drawChar(ch);
             return;
         }
 
         //finished this line
-        shownText += "\n";
+        newLine();
         if (!nextLine())
         {
             //no more lines
             finished=true; 
         }
-        redraw();
     }
 
     public boolean isFinished()
@@ -116,14 +122,30 @@ public class TypeWriterText extends Actor
      */
     public void skipToEnd()
     {
+        if (finished)
+        {
+            return;
+        }
+
         //dump everything instantly
+        //rest of the current line first, then the queued lines
+        while (charIndex < currentLine.length())
+        {
+            drawChar(currentLine.charAt(charIndex));
+            charIndex++;
+        }
+        newLine();
+
         while (!lines.isEmpty())
         {
             String ln=lines.remove();
-            shownText += ln + "\n";
+            for (int i=0; i < ln.length(); i++)
+            {
+                drawChar(ln.charAt(i));
+            }
+            newLine();
         }
         finished=true;
-        redraw();
     }
 
     /** 
@@ -174,50 +196,29 @@ public class TypeWriterText extends Actor
         return true;
     }
 
-    private void redraw()
+    /**
+     * Draws one glyph at the cursor and moves the cursor right.
+     * Lines that do not fit in the box are not drawn.
+     */
+    private void drawChar(char ch)
     {
-        //clear image
-        GreenfootImage img=getImage();
-        img.setColor(new Color(0,0,0,0));
-        img.fill();
-
-        int lineH=fontSize + 6;
-        int y=10;
-
-        //draw shownText line by line
-        StringTokenizer tok=new StringTokenizer(shownText, "\n", true);
-        String line="";
+        if (!lineFits()) return;
 
-        while (tok.hasMoreTokens())
-        {
-            String t=tok.nextToken();
-
-            if (t.equals("\n"))
-            {
-                drawLine(img, line, y);
-                y += lineH;
-                line="";
-
-                if (y > boxH - lineH) break; // stop if out of box
-            }
-            else
-            {
-                line += t;
-            }
-        }
+        GreenfootImage g=atlas.glyph(ch);
+        getImage().drawImage(g, cursorX, cursorY);
+        cursorX += g.getWidth();
+    }
 
-        //last partial line
-        if (y <= boxH - lineH)
-        {
-            drawLine(img, line, y);
-        }
+    private void newLine()
+    {
+        cursorX=10;
+        cursorY += fontSize + 6;
+        lineCount++;
     }
 
-    private void drawLine(GreenfootImage img, String line, int y)
+    //first line always shows, the rest only inside the box
+    private boolean lineFits()
     {
-        GreenfootImage lineImg=new GreenfootImage(
-            line, fontSize, textColor, new Color(0,0,0,0)
-        );
-        img.drawImage(lineImg, 10, y);
+        return lineCount == 0 || cursorY <= boxH - (fontSize + 6);
     }
 }
\ No newline at end of file
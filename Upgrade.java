@@ -91,6 +91,10 @@ public abstract class Upgrade extends Blocker
     }
     private Player getNearestPlayerInRange(int radius)
     {
+        if (getWorld() instanceof GameWorld)
+        {
+            return ((GameWorld) getWorld()).getSpatialHash().getNearestInRange(this, radius, Player.class);
+        }
         ArrayList<Player> ps = (ArrayList<Player>) getObjectsInRange(radius, Player.class);
         if (ps == null || ps.isEmpty())
         {
@@ -146,17 +150,10 @@ public abstract class Upgrade extends Blocker
     }
     protected GreenfootImage[] loadFrames()
     {
-        GreenfootImage[] imgs = new GreenfootImage[FRAME_COUNT];
-    
         try
         {
-            for (int i = 0; i < FRAME_COUNT; i++)
-            {
-                GreenfootImage img = new GreenfootImage(FRAME_PREFIX + (i+1) + ".png");
-                img.scale(VISUAL_W,VISUAL_H);
-                imgs[i] = img;
-            }
-            return imgs;
+            //shared frames, every upgrade of this type uses the same images
+            return SpriteCache.getFrames(FRAME_PREFIX, FRAME_COUNT, VISUAL_W, VISUAL_H);
         }
         catch (IllegalArgumentException e)
         {
@@ -41,6 +41,11 @@ public abstract class WalkingActor extends SuperSmoothMover
     //player movement speed (pixels per act)
     //subclass should overrid this speed
     protected int speed = 0;
+
+    //movement picked by computeMove() this frame
+    //reused every act, so moving never allocates
+    protected int moveDx = 0;
+    protected int moveDy = 0;
     
     public void act() 
     {
@@ -51,45 +56,10 @@ public abstract class WalkingActor extends SuperSmoothMover
         int dy = 0;
 
         //arrows or WASD
-        boolean leftKey;
-        if (Greenfoot.isKeyDown("left") || Greenfoot.isKeyDown("a"))
-        {
-            leftKey = true;
-        }
-        else
-        {
-            leftKey = false;
-        }
-        
-        boolean rightKey;
-        if (Greenfoot.isKeyDown("right") || Greenfoot.isKeyDown("d"))
-        {
-            rightKey = true;
-        }
-        else
-        {
-            rightKey = false;
-        }
-        
-        boolean upKey;
-        if (Greenfoot.isKeyDown("up") || Greenfoot.isKeyDown("w"))
-        {
-            upKey = true;
-        }
-        else
-        {
-            upKey = false;
-        }
-        
-        boolean downKey;
-        if (Greenfoot.isKeyDown("down") || Greenfoot.isKeyDown("s"))
-        {
-            downKey = true;
-        }
-        else
-        {
-            downKey = false;
-        }
+        boolean leftKey = InputFrame.left();
+        boolean rightKey = InputFrame.right();
+        boolean upKey = InputFrame.up();
+        boolean downKey = InputFrame.down();
 
         if (leftKey)
         {
@@ -178,7 +148,7 @@ public abstract class WalkingActor extends SuperSmoothMover
         down    = loadFramesRequired(folder + "/down", frameCount);
         right   = loadFramesRequired(folder + "/right", frameCount);
         //left    = loadFramesRequired(folder + "/left", frameCount);
-        left    =mirrorImage(right);
+        left    = loadFramesRequired(folder + "/right", frameCount, true);
         
         //default start image
         setImage(down[0]);
@@ -196,6 +166,16 @@ public abstract class WalkingActor extends SuperSmoothMover
      * @return an array of frames in order (index 0 holds frame 1)
      */
     protected GreenfootImage[] loadFramesRequired(String prefix, int count)
+    {
+        return loadFramesRequired(prefix, count, false);
+    }
+    /**
+     * Same as loadFramesRequired(prefix, count),
+     * but can return the frames mirrored horizontally (e.g. left from right).
+     *
+     * @param mirrored: true to mirror every frame
+     */
+    protected GreenfootImage[] loadFramesRequired(String prefix, int count, boolean mirrored)
     {
         GreenfootImage[] frames = new GreenfootImage[count];
     
@@ -209,7 +189,7 @@ public abstract class WalkingActor extends SuperSmoothMover
             //load image by the file name
             //if missing a place holder images will be returned
             //also resize the iimage
-            frames[index] = safeLoadAndScale(fileName);
+            frames[index] = safeLoadAndScale(fileName, mirrored);
         }
     
         //return the loaded frames.
@@ -227,16 +207,33 @@ public abstract class WalkingActor extends SuperSmoothMover
      * - is filled with magenta (easy to notice)
      * - has the text "MISSING" drawn on it
      *
+     * Frames come from SpriteCache, so every actor with the same
+     * sprite size shares one decoded copy.
+     *
      * @param path the image file path/name to load
      * @return the loaded/scaled image if it exists; otherwise a placeholder image
      */
     protected GreenfootImage safeLoadAndScale(String path)
+    {
+        return safeLoadAndScale(path, false);
+    }
+    /**
+     * @param path      the image file path/name to load
+     * @param mirrored  true to get the horizontally mirrored frame
+     */
+    protected GreenfootImage safeLoadAndScale(String path, boolean mirrored)
     {
         GreenfootImage img=null;
         try 
         {
-            img = new GreenfootImage(path);
-            img.scale(spriteW, spriteH);
+            if (mirrored)
+            {
+                img = SpriteCache.getMirrored(path, spriteW, spriteH);
+            }
+            else
+            {
+                img = SpriteCache.get(path, spriteW, spriteH);
+            }
         } 
         catch (IllegalArgumentException e) 
         {
@@ -338,8 +335,40 @@ public abstract class WalkingActor extends SuperSmoothMover
      * Move X first then Y
      * Always move in straight line
      * 
+     * In GameWorld the move is resolved by the room's CollisionGrid,
+     * the actor stops right at the wall instead of moving and moving back.
      */
     protected void avoidWallMoving(int dx, int dy) 
+    {
+        World w = getWorld();
+        CollisionGrid grid = null;
+        if (w instanceof GameWorld)
+        {
+            grid = ((GameWorld) w).getCollisionGrid();
+        }
+        if (grid == null)
+        {
+            //not in a GameWorld, fall back to touching checks
+            avoidWallMovingByTouch(dx, dy);
+            return;
+        }
+
+        //block doors for enemies/hazards/etc, but not the players
+        boolean blockDoors = !(this instanceof Player);
+
+        int moveX = grid.sweepX(this, dx, blockDoors);
+        int moveY = grid.sweepY(this, moveX, dy, blockDoors);
+
+        if (moveX != 0 || moveY != 0)
+        {
+            setLocation(getX() + moveX, getY() + moveY);
+        }
+    }
+    /**
+     * Original movement check using isTouching
+     * used when there is no CollisionGrid for the world.
+     */
+    private void avoidWallMovingByTouch(int dx, int dy) 
     {
         int oldX = getX();
         int oldY = getY();
@@ -375,6 +404,17 @@ public abstract class WalkingActor extends SuperSmoothMover
             }
         }
     }
+    /**
+     * Stores this frame's movement for computeMove()
+     *
+     * @param dx:   change in x
+     * @param dy:   change in y
+     */
+    protected void setMove(int dx, int dy)
+    {
+        moveDx = dx;
+        moveDy = dy;
+    }
     /**
      * Creates mirrored images
      * Call this original is loaded and scaled
@@ -1,4 +1,5 @@
 import greenfoot.*;
+import java.util.Random;
 
 /**
  * WanderAround helps wondring actor move in the world
@@ -6,6 +7,9 @@ import greenfoot.*;
  *  Keep moving in that direction for a random time
  *  then pick again
  *  
+ *  Each WanderAround has its own Random (GameRandom.forActor),
+ *  so nextMove() can run on an EnemySystem worker thread.
+ *  
  *  @author: Owen Kung
  *  @version: Jan 2026
  */
@@ -16,9 +20,15 @@ public class WanderAround
 
     private int timer = 0;
 
+    //last move from nextMove()
+    private int dx = 0;
+    private int dy = 0;
+
     private int minHoldFrames;
     private int extraHoldFrames;
 
+    private Random random = GameRandom.forActor();
+
     /**
      * @param minHoldFrames:    minimum frames to keep a direction
      * @param extraHoldFrames:  additional random frames
@@ -40,19 +50,37 @@ public class WanderAround
     }
 
     /**
+     * Picks this frame's move, read it back with getDx()/getDy()
+     *
      * @param speed:    movement speed
-     * @return:         int[]{dx, dy} 
      */
-    public int[] nextMove(int speed)
+    public void nextMove(int speed)
     {
         if (timer <= 0)
         {
             pickNewDirection();
-            timer = minHoldFrames + Greenfoot.getRandomNumber(extraHoldFrames);
+            timer = minHoldFrames + roll(extraHoldFrames);
         }
 
         timer--;
-        return new int[]{ dirX * speed, dirY * speed };
+        dx = dirX * speed;
+        dy = dirY * speed;
+    }
+
+    /**
+     * @return change in x from the last nextMove()
+     */
+    public int getDx()
+    {
+        return dx;
+    }
+
+    /**
+     * @return change in y from the last nextMove()
+     */
+    public int getDy()
+    {
+        return dy;
     }
 
     /**
@@ -60,7 +88,7 @@ public class WanderAround
      */
     private void pickNewDirection() 
     {
-        int newDir = Greenfoot.getRandomNumber(6); //0-5
+        int newDir = roll(6); //0-5
 
         //0..3 = 4 directions, 
         //4..5 = pause
@@ -90,4 +118,10 @@ public class WanderAround
             dirY = 0; 
         }
     }
-}
\ No newline at end of file
+
+    //0 to limit-1, 0 if limit is not positive
+    private int roll(int limit)
+    {
+        return (limit <= 0) ? 0 : random.nextInt(limit);
+    }
+}
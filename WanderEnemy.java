@@ -22,7 +22,6 @@ public class WanderEnemy extends Enemy
 
         //walking frames
         loadDirectionalFrames("enemy/wander/", 4);
-        left = mirrorImage(right);
 
         //attack frames
         //loadAttackFrames("player/bullet_warrior/attack", 3); 
@@ -35,9 +34,10 @@ public class WanderEnemy extends Enemy
     /**
      * Computes wandering movement using WanderBrain.
      */
-    protected int[] computeMove()
+    protected void computeMove()
     {
-        return wonderAround.nextMove(speed);
+        wonderAround.nextMove(speed);
+        setMove(wonderAround.getDx(), wonderAround.getDy());
     }
     protected void playAttackSoundEffect()
     {
@@ -8,6 +8,9 @@ import greenfoot.*;
  */
 public class ZombieEnemy extends Enemy 
 {
+    //result of chase()
+    private int[] move = new int[2];
+
     /**
      * Creates a chasing enemy.
      *
@@ -23,29 +26,68 @@ public class ZombieEnemy extends Enemy
 
     /**
      * Computes movement toward the player.
+     * Follows the room's FlowField around walls,
+     * heads straight at the player once on the same tile.
      *
-     * @return {dx, dy}
+     * result goes into moveDx/moveDy
      */
-    protected int[] computeMove() 
+    protected void computeMove() 
     {
         if (player==null)
         {
-            return new int[]{0, 0};
+            setMove(0, 0);
+            return;
+        }
+
+        FlowField flow = null;
+        World w = getWorld();
+        if (w instanceof GameWorld)
+        {
+            //shared by every zombie, only rebuilt when the player changes tile
+            flow = ((GameWorld) w).getFlowField();
+            flow.setTarget(player.getX(), player.getY());
         }
 
-        int dx =player.getX() - getX();
-        int dy =player .getY() - getY();
+        chase(flow, player.getX(), player.getY(), getX(), getY(), speed, move, 0);
+        setMove(move[0], move[1]);
+    }
+
+    /**
+     * One chase step from x, y toward the player at px, py,
+     * also used by EnemySystem for all zombies at once.
+     * Only reads flow, so zombies can chase on several threads.
+     *
+     * @param flow: FlowField already targeted at the player, or null to go straight
+     * @param move: gets the step, move[at]=dx, move[at + 1]=dy
+     */
+    static void chase(FlowField flow, int px, int py, int x, int y, int speed, int[] move, int at)
+    {
+        int aimX = px;
+        int aimY = py;
+
+        if (flow != null)
+        {
+            int next = flow.nextTile(x, y);
+            if (next >= 0)
+            {
+                aimX = GameConfig.tileCenterX(next % GameConfig.MAP_COLS);
+                aimY = GameConfig.tileCenterY(next / GameConfig.MAP_COLS);
+            }
+        }
+
+        int dx =aimX - x;
+        int dy =aimY - y;
 
         double dist = Math.sqrt(dx * dx + dy * dy);
         if (dist < 2)
         {
-            return new int[]{0, 0};   
+            move[at] = 0;
+            move[at + 1] = 0;
+            return;
         }
 
-        int movX = (int)Math.round((dx / dist) * speed);
-        int movY = (int)Math.round((dy / dist) * speed);
-
-        return new int[]{movX, movY};
+        move[at] = (int)Math.round((dx / dist) * speed);
+        move[at + 1] = (int)Math.round((dy / dist) * speed);
     }
     protected void playAttackSoundEffect()
     {